@@ -0,0 +1,120 @@
+package com.university.habittracker.jmh;
+
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.entity.Task;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproducible benchmark datasets, written with JDBC batches so that large datasets
+ * load in seconds. Task rows carry consistent completion bitmaps, counters and streaks;
+ * completion_history rows are optional.
+ */
+final class Datasets {
+
+    private static final long SEED = 42;
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final String INSERT_TASK_SQL =
+            "INSERT INTO tasks (id, title, description, daily_target_value, accumulated_value, priority, " +
+            "priority_rank, start_date, end_date, last_processed_date, active, completion_bitmap, " +
+            "total_completions, first_completion, last_completion, current_streak, longest_streak, " +
+            "streak_end_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO completion_history (id, task_id, completion_date, completed_value, timestamp) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private Datasets() {
+    }
+
+    /**
+     * Insert tasks whose history covers the last historyDays days and that end 30 days
+     * from now, each completed on about completionRate of its days. Priorities cycle
+     * LOW, MEDIUM, HIGH. Must run on an empty database.
+     */
+    static void insertTasks(JdbcTemplate jdbcTemplate, int tasks, int historyDays, double completionRate,
+                            boolean withHistory) {
+        Random random = new Random(SEED);
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = today.minusDays(historyDays);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Priority[] priorities = Priority.values();
+
+        List<Object[]> taskRows = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> historyRows = new ArrayList<>(BATCH_SIZE);
+        long historyId = 0;
+        for (int i = 0; i < tasks; i++) {
+            long taskId = i + 1L;
+            int dailyTarget = 1 + i % 5;
+            BitSet completions = new BitSet(historyDays);
+            for (int day = 0; day < historyDays; day++) {
+                if (random.nextDouble() < completionRate) {
+                    completions.set(day);
+                }
+            }
+
+            // Derived state as the application maintains it
+            Task task = new Task("Benchmark task " + i, "Generated benchmark task " + i, dailyTarget,
+                    priorities[i % priorities.length], startDate, today.plusDays(30));
+            task.replaceCompletions(completions);
+            int lastRunEnd = completions.length() - 1;
+            int lastRunStart = lastRunEnd < 0 ? -1 : completions.previousClearBit(lastRunEnd) + 1;
+            int longest = 0;
+            for (int start = completions.nextSetBit(0); start >= 0;
+                 start = completions.nextSetBit(completions.nextClearBit(start))) {
+                longest = Math.max(longest, completions.nextClearBit(start) - start);
+            }
+            // The streak is still current only if its last run reaches yesterday
+            int currentStreak = lastRunEnd == historyDays - 1 ? lastRunEnd - lastRunStart + 1 : 0;
+
+            taskRows.add(new Object[]{taskId, task.getTitle(), task.getDescription(), dailyTarget, dailyTarget,
+                    task.getPriority().name(), task.getPriorityRank(), Date.valueOf(startDate),
+                    Date.valueOf(task.getEndDate()), Date.valueOf(today.minusDays(1)), true,
+                    task.getCompletionBitmap(), task.getTotalCompletions(), toDate(task.getFirstCompletion()),
+                    toDate(task.getLastCompletion()), currentStreak, longest,
+                    lastRunEnd < 0 ? null : Date.valueOf(startDate.plusDays(lastRunEnd))});
+            if (withHistory) {
+                for (int day = completions.nextSetBit(0); day >= 0; day = completions.nextSetBit(day + 1)) {
+                    historyRows.add(new Object[]{++historyId, taskId, Date.valueOf(startDate.plusDays(day)),
+                            dailyTarget, now});
+                }
+            }
+            if (taskRows.size() >= BATCH_SIZE || historyRows.size() >= BATCH_SIZE) {
+                // History rows reference their task: write the tasks first
+                jdbcTemplate.batchUpdate(INSERT_TASK_SQL, taskRows);
+                jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, historyRows);
+                taskRows.clear();
+                historyRows.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_TASK_SQL, taskRows);
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, historyRows);
+
+        // Hand the sequences back to Hibernate past the generated ids, as V4 does
+        jdbcTemplate.execute("ALTER SEQUENCE tasks_seq RESTART WITH " + (tasks + 50));
+        jdbcTemplate.execute("ALTER SEQUENCE completion_history_seq RESTART WITH " + (historyId + 50));
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    /**
+     * Put every task catchUpDays behind, so the next rollover rolls each of them
+     * over that many days.
+     */
+    static void rewindRollover(JdbcTemplate jdbcTemplate, int catchUpDays) {
+        jdbcTemplate.update("UPDATE tasks SET last_processed_date = ?, accumulated_value = daily_target_value",
+                Date.valueOf(LocalDate.now().minusDays(catchUpDays)));
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date == null ? null : Date.valueOf(date);
+    }
+}
@@ -0,0 +1,98 @@
+package com.university.habittracker.jmh;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.university.habittracker.dto.TaskResponseDTO;
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.entity.Task;
+import com.university.habittracker.service.impl.TaskServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping and JSON serialization of TaskResponseDTO, without Spring or
+ * a database. The ObjectMapper is configured as the application's (ISO dates).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MappingBenchmark {
+
+    @Param({"50", "1000"})
+    int size;
+
+    private MethodHandle convertToResponseDTO;
+    private ObjectMapper objectMapper;
+    private List<Task> tasks;
+    private List<TaskResponseDTO> responses;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        // convertToResponseDTO is private and uses no collaborator but the clock
+        Constructor<?> constructor = TaskServiceImpl.class.getConstructors()[0];
+        Object[] arguments = new Object[constructor.getParameterCount()];
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        for (int i = 0; i < arguments.length; i++) {
+            if (parameterTypes[i] == Clock.class) {
+                arguments[i] = Clock.systemDefaultZone();
+            }
+        }
+        Object service = constructor.newInstance(arguments);
+        convertToResponseDTO = MethodHandles.privateLookupIn(TaskServiceImpl.class, MethodHandles.lookup())
+                .findVirtual(TaskServiceImpl.class, "convertToResponseDTO",
+                        MethodType.methodType(TaskResponseDTO.class, Task.class))
+                .bindTo(service);
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        LocalDate today = LocalDate.now();
+        Priority[] priorities = Priority.values();
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Task task = new Task("Benchmark task " + i, "Generated benchmark task " + i, 1 + i % 5,
+                    priorities[i % priorities.length], today.minusDays(30), today.plusDays(30));
+            task.setId(i + 1L);
+            tasks.add(task);
+        }
+        responses = mapAll();
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> mapAll() throws Throwable {
+        List<TaskResponseDTO> result = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            result.add((TaskResponseDTO) convertToResponseDTO.invokeExact(task));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] serializeOne() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses.get(0));
+    }
+
+    @Benchmark
+    public byte[] serializeAll() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,67 @@
+package com.university.habittracker.jmh;
+
+import com.university.habittracker.dto.TaskPageDTO;
+import com.university.habittracker.dto.TaskPageRequestDTO;
+import com.university.habittracker.dto.TaskResponseDTO;
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The priority listing queries: the full sorted list, one priority, and the first
+ * keyset page of the sorted list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PriorityListingBenchmark {
+
+    @Param({"1000", "10000"})
+    int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private final TaskPageRequestDTO firstPage = new TaskPageRequestDTO();
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkContext.start("priority_" + tasks);
+        taskService = context.getBean(TaskService.class);
+        Datasets.insertTasks(context.getBean(JdbcTemplate.class), tasks, 30, 0.5, false);
+        firstPage.setLimit(50);
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> sortedByPriority() {
+        return taskService.getAllTasksSortedByPriority();
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> byPriority() {
+        return taskService.getTasksByPriority(Priority.HIGH);
+    }
+
+    @Benchmark
+    public TaskPageDTO sortedByPriorityFirstPage() {
+        return taskService.getAllTasksSortedByPriority(firstPage);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+}
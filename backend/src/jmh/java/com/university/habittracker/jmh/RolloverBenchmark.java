@@ -0,0 +1,63 @@
+package com.university.habittracker.jmh;
+
+import com.university.habittracker.dto.RolloverReportDTO;
+import com.university.habittracker.rollover.RolloverMode;
+import com.university.habittracker.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Daily rollover (BATCH mode) by number of active tasks and days of catch-up.
+ * Every invocation starts from all tasks catchUpDays behind, so each measures one
+ * complete run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RolloverBenchmark {
+
+    @Param({"1000", "10000"})
+    int tasks;
+
+    @Param({"1", "30", "365"})
+    int catchUpDays;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkContext.start("rollover_" + tasks + "_" + catchUpDays);
+        taskService = context.getBean(TaskService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Datasets.insertTasks(jdbcTemplate, tasks, catchUpDays, 0.5, false);
+    }
+
+    @Setup(Level.Invocation)
+    public void rewind() {
+        Datasets.rewindRollover(jdbcTemplate, catchUpDays);
+    }
+
+    @Benchmark
+    public RolloverReportDTO processDailyRollover() {
+        return taskService.processDailyRollover(RolloverMode.BATCH);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+}
@@ -0,0 +1,69 @@
+package com.university.habittracker.jmh;
+
+import com.university.habittracker.dto.CompletionStatisticsDTO;
+import com.university.habittracker.dto.StatisticsRequestDTO;
+import com.university.habittracker.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getCompletionStatistics by length of completion history, with and without the
+ * first page of completed dates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatisticsBenchmark {
+
+    private static final int TASKS = 200;
+
+    @Param({"30", "365", "3650"})
+    int historyDays;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private final StatisticsRequestDTO summaryRequest = new StatisticsRequestDTO();
+    private final StatisticsRequestDTO datesRequest = new StatisticsRequestDTO();
+    private long nextTaskId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkContext.start("statistics_" + historyDays);
+        taskService = context.getBean(TaskService.class);
+        Datasets.insertTasks(context.getBean(JdbcTemplate.class),
+                TASKS, historyDays, 0.7, true);
+        datesRequest.setIncludeDates(true);
+    }
+
+    @Benchmark
+    public CompletionStatisticsDTO statistics() {
+        return taskService.getCompletionStatistics(nextTaskId(), summaryRequest);
+    }
+
+    @Benchmark
+    public CompletionStatisticsDTO statisticsWithDates() {
+        return taskService.getCompletionStatistics(nextTaskId(), datesRequest);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    private long nextTaskId() {
+        nextTaskId = nextTaskId % TASKS + 1;
+        return nextTaskId;
+    }
+}
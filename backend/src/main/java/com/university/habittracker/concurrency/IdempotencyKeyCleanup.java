@@ -0,0 +1,39 @@
+package com.university.habittracker.concurrency;
+
+import com.university.habittracker.config.IdempotencyProperties;
+import com.university.habittracker.repository.CompletionRequestRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Purges completion idempotency keys older than idempotency.retention.
+ */
+@Component
+public class IdempotencyKeyCleanup {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyCleanup.class);
+
+    private final CompletionRequestRepository completionRequestRepository;
+    private final IdempotencyProperties properties;
+
+    public IdempotencyKeyCleanup(CompletionRequestRepository completionRequestRepository,
+                                 IdempotencyProperties properties) {
+        this.completionRequestRepository = completionRequestRepository;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval:PT1H}")
+    @Transactional
+    public void purgeExpiredKeys() {
+        int purged = completionRequestRepository.deleteCreatedBefore(
+                LocalDateTime.now().minus(properties.getRetention()));
+        if (purged > 0) {
+            log.debug("Purged {} expired completion idempotency keys", purged);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.university.habittracker.concurrency;
+
+import com.university.habittracker.dto.TaskEventDTO;
+import com.university.habittracker.events.TaskEventBroadcaster;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory change versions of the task data, from which the read endpoints derive
+ * their ETags without querying the database.
+ *
+ * Every write bumps one global counter; a task-level write also stamps that task with
+ * the new value, and a write that may touch any task (rollover, import) raises a floor
+ * under every task's version instead. Versions are bumped only after the writing
+ * transaction commits, so a response is never tagged with a version whose data it
+ * cannot see yet. The same commit hook publishes the change on the event stream.
+ *
+ * The counters live in this process, like {@link TaskLockStripes}: tags are prefixed
+ * with the startup time so that none survives a restart, and writes made by another
+ * instance against a shared database are not seen.
+ */
+@Component
+public class TaskChangeTracker {
+
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final Clock clock;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final ConcurrentMap<Long, Long> taskVersions = new ConcurrentHashMap<>();
+    private final AtomicLong allTasksVersion = new AtomicLong();
+
+    public TaskChangeTracker(TaskEventBroadcaster taskEventBroadcaster, Clock clock) {
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.clock = clock;
+    }
+
+    /**
+     * ETag value for responses built from the whole task set (listings).
+     * Includes the current date, since "today" feeds the active and paged listings.
+     */
+    public String tasksTag() {
+        return epoch + "-" + globalVersion.get() + "-" + LocalDate.now(clock).toEpochDay();
+    }
+
+    /**
+     * ETag value for responses built from one task and its history.
+     */
+    public String taskTag(Long taskId) {
+        long version = Math.max(allTasksVersion.get(), taskVersions.getOrDefault(taskId, 0L));
+        return epoch + "-" + taskId + "-" + version + "-" + LocalDate.now(clock).toEpochDay();
+    }
+
+    /**
+     * Record a change once the current transaction commits: bump the versions of the
+     * event's tasks, or of every task when it names none, and publish the event.
+     * Deleted tasks are recorded as changed too, so their cached responses stop matching.
+     */
+    public void changed(TaskEventDTO event) {
+        afterCommit(() -> {
+            long version = globalVersion.incrementAndGet();
+            if (event.getTaskIds() == null) {
+                allTasksVersion.accumulateAndGet(version, Math::max);
+            } else {
+                for (Long taskId : event.getTaskIds()) {
+                    // Commits can finish out of order: a version never moves backwards
+                    taskVersions.merge(taskId, version, Math::max);
+                }
+            }
+            taskEventBroadcaster.publish(event);
+        });
+    }
+
+    private static void afterCommit(Runnable bump) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump.run();
+            }
+        });
+    }
+}
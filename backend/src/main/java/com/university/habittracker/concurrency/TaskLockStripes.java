@@ -0,0 +1,63 @@
+package com.university.habittracker.concurrency;
+
+import com.university.habittracker.config.ConcurrencyProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Fixed set of locks that task writes are serialized on, chosen by task ID.
+ *
+ * Concurrent completions of one hot task then queue in-process instead of racing to
+ * the database and failing their optimistic lock check. Memory stays constant however
+ * many tasks exist; unrelated tasks only wait for each other when they share a stripe.
+ */
+@Component
+public class TaskLockStripes {
+
+    private final ReentrantLock[] locks;
+
+    public TaskLockStripes(ConcurrencyProperties properties) {
+        this.locks = new ReentrantLock[Math.max(1, properties.getLockStripes())];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Run an action holding the stripes of every given task. Stripes are acquired in
+     * ascending order, so two callers locking overlapping sets cannot deadlock.
+     */
+    public <T> T callWithLocks(Collection<Long> taskIds, Supplier<T> action) {
+        boolean[] needed = new boolean[locks.length];
+        for (Long taskId : taskIds) {
+            if (taskId != null) {
+                needed[stripeOf(taskId)] = true;
+            }
+        }
+
+        int acquired = 0;
+        try {
+            for (; acquired < locks.length; acquired++) {
+                if (needed[acquired]) {
+                    locks[acquired].lock();
+                }
+            }
+            return action.get();
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                if (needed[i]) {
+                    locks[i].unlock();
+                }
+            }
+        }
+    }
+
+    private int stripeOf(long taskId) {
+        // Spread sequential IDs before reducing to a stripe index
+        long hash = taskId * 0x9E3779B97F4A7C15L;
+        return (int) ((hash >>> 32) % locks.length);
+    }
+}
@@ -0,0 +1,136 @@
+package com.university.habittracker.concurrency;
+
+import com.university.habittracker.config.ConcurrencyProperties;
+import com.university.habittracker.exception.TaskConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs task writes that must not lose concurrent updates.
+ *
+ * Each attempt holds the lock stripes of its tasks and runs in its own transaction.
+ * When the transaction fails on a conflict, the write is retried from scratch, so it
+ * re-reads the current state and re-validates:
+ * - optimistic lock failures (the task's version changed since it was read, e.g. by a rollover)
+ * - lock timeouts and deadlocks
+ * - unique key violations, which is how a duplicate completion committed by another
+ *   instance between our check and our insert surfaces
+ *
+ * Any other integrity violation (foreign key, column length, ...) is not transient and
+ * is rethrown unchanged. The stripes are released before backing off, so a retrying
+ * write never stalls other writers on the same stripes.
+ *
+ * After concurrency.max-attempts a TaskConflictException is thrown.
+ * Retries are counted in task.write.conflicts{outcome=retried|exhausted}.
+ */
+@Component
+public class TaskWriteExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteExecutor.class);
+
+    private final TaskLockStripes lockStripes;
+    private final ConcurrencyProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final SQLExceptionTranslator exceptionTranslator;
+    private final Counter retried;
+    private final Counter exhausted;
+
+    public TaskWriteExecutor(TaskLockStripes lockStripes,
+                             ConcurrencyProperties properties,
+                             PlatformTransactionManager transactionManager,
+                             DataSource dataSource,
+                             MeterRegistry registry) {
+        this.lockStripes = lockStripes;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.exceptionTranslator = new SQLErrorCodeSQLExceptionTranslator(dataSource);
+        this.retried = Counter.builder("task.write.conflicts")
+                .description("Task writes that conflicted with a concurrent update")
+                .tag("outcome", "retried")
+                .register(registry);
+        this.exhausted = Counter.builder("task.write.conflicts")
+                .description("Task writes that conflicted with a concurrent update")
+                .tag("outcome", "exhausted")
+                .register(registry);
+    }
+
+    /**
+     * Run a write on the given tasks in a new transaction, retrying it on conflicts.
+     * Must not be called inside an existing transaction.
+     */
+    public <T> T execute(Collection<Long> taskIds, Supplier<T> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return lockStripes.callWithLocks(taskIds, () -> transactionTemplate.execute(status -> write.get()));
+            } catch (DataAccessException ex) {
+                if (!isConflict(ex)) {
+                    throw ex;
+                }
+                if (attempt >= properties.getMaxAttempts()) {
+                    exhausted.increment();
+                    throw new TaskConflictException(
+                            "Task was modified concurrently " + attempt + " times, please retry", ex);
+                }
+                retried.increment();
+                log.debug("Task write conflicted (attempt {}), retrying: {}", attempt, ex.getMessage());
+                backoff(attempt, ex);
+            }
+        }
+    }
+
+    public void executeWithoutResult(Collection<Long> taskIds, Runnable write) {
+        execute(taskIds, () -> {
+            write.run();
+            return null;
+        });
+    }
+
+    // Helper methods
+
+    /**
+     * Whether a failed write lost a race with a concurrent one and is worth retrying.
+     * JPA flushes report unique key violations as a plain DataIntegrityViolationException,
+     * so its SQLException is translated again by error code to tell them apart.
+     */
+    private boolean isConflict(DataAccessException ex) {
+        if (ex instanceof ConcurrencyFailureException || ex instanceof DuplicateKeyException) {
+            return true;
+        }
+        if (!(ex instanceof DataIntegrityViolationException)) {
+            return false;
+        }
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return exceptionTranslator.translate("task write", null, sqlException) instanceof DuplicateKeyException;
+            }
+        }
+        return false;
+    }
+
+    private void backoff(int attempt, DataAccessException cause) {
+        long maxMillis = properties.getRetryBackoff().toMillis() << Math.min(attempt - 1, 16);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxMillis + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TaskConflictException("Interrupted while retrying a conflicting task write", cause);
+        }
+    }
+}
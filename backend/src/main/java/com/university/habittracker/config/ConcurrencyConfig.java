@@ -0,0 +1,13 @@
+package com.university.habittracker.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for concurrent task writes.
+ * Registers the lock striping, retry and idempotency key settings bound from application.yml.
+ */
+@Configuration
+@EnableConfigurationProperties({ConcurrencyProperties.class, IdempotencyProperties.class})
+public class ConcurrencyConfig {
+}
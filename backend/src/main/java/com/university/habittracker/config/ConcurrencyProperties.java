@@ -0,0 +1,54 @@
+package com.university.habittracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tunable settings for concurrent task writes.
+ * Bound from the "concurrency" section of application.yml.
+ */
+@ConfigurationProperties(prefix = "concurrency")
+public class ConcurrencyProperties {
+
+    /**
+     * Attempts for a task write that conflicts with a concurrent update (optimistic lock
+     * failure, lock timeout, duplicate completion), and passes for rollover conflicts.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Base delay before a retry; attempt n waits a random time up to base * 2^(n-1).
+     */
+    private Duration retryBackoff = Duration.ofMillis(10);
+
+    /**
+     * Number of in-process locks completions of the same task are serialized on.
+     */
+    private int lockStripes = 64;
+
+    // Getters and Setters
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+}
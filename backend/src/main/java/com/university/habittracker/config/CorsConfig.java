@@ -23,7 +23,8 @@ public class CorsConfig {
                                 "https://habit-tracker-psi-sepia.vercel.app"     // Production frontend
                         )
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
-                        .allowedHeaders("*");
+                        .allowedHeaders("*")
+                        .exposedHeaders("X-Next-Cursor");
             }
         };
     }
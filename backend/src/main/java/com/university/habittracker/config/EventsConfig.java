@@ -0,0 +1,13 @@
+package com.university.habittracker.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the task event stream.
+ * Registers the subscriber buffer, sender and keep-alive settings bound from application.yml.
+ */
+@Configuration
+@EnableConfigurationProperties(EventsProperties.class)
+public class EventsConfig {
+}
@@ -0,0 +1,80 @@
+package com.university.habittracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tunable settings for the task event stream.
+ * Bound from the "events" section of application.yml.
+ */
+@ConfigurationProperties(prefix = "events")
+public class EventsProperties {
+
+    /**
+     * Events buffered per subscriber; a subscriber whose buffer is full is disconnected.
+     */
+    private int bufferSize = 256;
+
+    /**
+     * Threads writing buffered events to subscribers.
+     */
+    private int senderThreads = 2;
+
+    /**
+     * Longest a single send may block before its subscriber is disconnected and its
+     * sender thread replaced; also the interval of that check.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Interval of the keep-alive comment sent to every subscriber.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Lifetime of one stream; clients reconnect when it ends.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    // Getters and Setters
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getSenderThreads() {
+        return senderThreads;
+    }
+
+    public void setSenderThreads(int senderThreads) {
+        this.senderThreads = senderThreads;
+    }
+
+    public Duration getSendTimeout() {
+        return sendTimeout;
+    }
+
+    public void setSendTimeout(Duration sendTimeout) {
+        this.sendTimeout = sendTimeout;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,70 @@
+package com.university.habittracker.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clean shutdown of the on-disk database of the "file" profile.
+ *
+ * On application shutdown the database is closed with SHUTDOWN COMPACT, which writes
+ * any pending (write-behind) changes and rewrites the file without free space, so the
+ * next start opens a small file with nothing to recover.
+ *
+ * Stops in the lowest lifecycle phase, after every other lifecycle component: the task
+ * scheduler has waited for running rollovers and cleanups, and the chunked rollover
+ * workers have committed their in-flight chunks. The connection pool is closed later,
+ * when beans are destroyed.
+ */
+@Component
+@Profile("file")
+public class FileStorageShutdown implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(FileStorageShutdown.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean running;
+
+    public FileStorageShutdown(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        shutdownCompact();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    // Helper methods
+
+    private void shutdownCompact() {
+        long startNanos = System.nanoTime();
+        try {
+            jdbcTemplate.execute("SHUTDOWN COMPACT");
+            log.info("Database closed and compacted in {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        } catch (RuntimeException e) {
+            log.warn("Could not compact the database on shutdown: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.university.habittracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tunable settings for Idempotency-Key handling on completions.
+ * Bound from the "idempotency" section of application.yml.
+ */
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * How long a key is remembered; a retry after this is treated as a new request.
+     */
+    private Duration retention = Duration.ofHours(24);
+
+    /**
+     * Interval between purges of expired keys.
+     */
+    private Duration cleanupInterval = Duration.ofHours(1);
+
+    // Getters and Setters
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getCleanupInterval() {
+        return cleanupInterval;
+    }
+
+    public void setCleanupInterval(Duration cleanupInterval) {
+        this.cleanupInterval = cleanupInterval;
+    }
+}
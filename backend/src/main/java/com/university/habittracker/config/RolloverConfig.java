@@ -0,0 +1,30 @@
+package com.university.habittracker.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * Configuration for daily rollover processing.
+ * Registers the rollover settings bound from application.yml and enables
+ * the task scheduler used by the built-in rollover scheduler.
+ *
+ * Also provides the application Clock, in the rollover zone, so that the date the
+ * rollover runs for is the same "today" completions, listings, statistics, streaks and
+ * ETags are computed against.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(RolloverProperties.class)
+public class RolloverConfig {
+
+    @Bean
+    public Clock clock(RolloverProperties properties) {
+        String zone = properties.getSchedule().getZone();
+        return Clock.system((zone == null || zone.isBlank()) ? ZoneId.systemDefault() : ZoneId.of(zone));
+    }
+}
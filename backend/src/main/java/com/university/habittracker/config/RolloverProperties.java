@@ -0,0 +1,138 @@
+package com.university.habittracker.config;
+
+import com.university.habittracker.rollover.RolloverMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalTime;
+
+/**
+ * Tunable settings for daily rollover processing.
+ * Bound from the "rollover" section of application.yml.
+ */
+@ConfigurationProperties(prefix = "rollover")
+public class RolloverProperties {
+
+    /**
+     * Mode used when no mode is requested explicitly.
+     */
+    private RolloverMode mode = RolloverMode.BATCH;
+
+    /**
+     * Number of task IDs per chunk (CHUNKED mode).
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Number of worker threads processing chunks (CHUNKED mode).
+     */
+    private int workerThreads = 4;
+
+    /**
+     * Log the rollover of one task in this many at DEBUG level; 0 disables the sample.
+     */
+    private int logSampleEvery = 1000;
+
+    /**
+     * Built-in scheduler settings.
+     */
+    private final Schedule schedule = new Schedule();
+
+    // Getters and Setters
+    public RolloverMode getMode() {
+        return mode;
+    }
+
+    public void setMode(RolloverMode mode) {
+        this.mode = mode;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    public int getLogSampleEvery() {
+        return logSampleEvery;
+    }
+
+    public void setLogSampleEvery(int logSampleEvery) {
+        this.logSampleEvery = logSampleEvery;
+    }
+
+    public Schedule getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Settings for the in-process rollover scheduler.
+     */
+    public static class Schedule {
+
+        /**
+         * Whether rollover runs automatically every day.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Local time of day at which the rollover runs.
+         */
+        private LocalTime time = LocalTime.of(0, 5);
+
+        /**
+         * Time zone used to interpret the time and to date every run (scheduled, catch-up
+         * and manual). It is the zone of the application Clock, so it also decides what
+         * "today" is for completions, listings, statistics and streaks; empty means the
+         * system default.
+         */
+        private String zone = "";
+
+        /**
+         * Whether a run missed while the application was down is made up at startup.
+         */
+        private boolean catchUpOnStartup = true;
+
+        // Getters and Setters
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public LocalTime getTime() {
+            return time;
+        }
+
+        public void setTime(LocalTime time) {
+            this.time = time;
+        }
+
+        public String getZone() {
+            return zone;
+        }
+
+        public void setZone(String zone) {
+            this.zone = zone;
+        }
+
+        public boolean isCatchUpOnStartup() {
+            return catchUpOnStartup;
+        }
+
+        public void setCatchUpOnStartup(boolean catchUpOnStartup) {
+            this.catchUpOnStartup = catchUpOnStartup;
+        }
+    }
+}
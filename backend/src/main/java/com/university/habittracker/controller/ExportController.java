@@ -0,0 +1,60 @@
+package com.university.habittracker.controller;
+
+import com.university.habittracker.service.TaskService;
+import com.university.habittracker.transfer.TransferFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * REST Controller for exporting all data.
+ *
+ * Base URL: /api/export
+ */
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "http://localhost:5173")
+@Tag(name = "Export", description = "APIs for exporting tasks and completion history")
+public class ExportController {
+
+    private final TaskService taskService;
+    private final Clock clock;
+
+    public ExportController(TaskService taskService, Clock clock) {
+        this.taskService = taskService;
+        this.clock = clock;
+    }
+
+    /**
+     * Export all tasks and completion history
+     * GET /api/export
+     *
+     * The response is streamed as it is read from the database and can be sent back
+     * to POST /api/tasks/import as is. It is gzip-compressed on the fly when the client
+     * sends Accept-Encoding: gzip (server.compression in application.yml).
+     */
+    @Operation(summary = "Export tasks and completion history",
+            description = "Streams every task followed by its completions as NDJSON records")
+    @ApiResponse(responseCode = "200", description = "Export streamed successfully")
+    @GetMapping(produces = TransferFormat.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        ContentDisposition attachment = ContentDisposition.attachment()
+                .filename("habit-tracker-export-" + LocalDate.now(clock) + ".ndjson")
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment.toString())
+                .contentType(TransferFormat.NDJSON.getMediaType())
+                .body(taskService::exportTasks);
+    }
+}
@@ -1,8 +1,13 @@
 package com.university.habittracker.controller;
 
+import com.university.habittracker.concurrency.TaskChangeTracker;
 import com.university.habittracker.dto.*;
 import com.university.habittracker.entity.Priority;
+import com.university.habittracker.events.TaskEventBroadcaster;
+import com.university.habittracker.rollover.RolloverMode;
+import com.university.habittracker.rollover.RolloverScheduler;
 import com.university.habittracker.service.TaskService;
+import com.university.habittracker.transfer.TransferFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,11 +16,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.InputStream;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -24,17 +36,32 @@ import java.util.List;
  * Provides endpoints for CRUD operations, filtering, and completion tracking.
  *
  * Base URL: /api/tasks
+ *
+ * The read endpoints send a strong ETag derived from {@link TaskChangeTracker} and answer
+ * a matching If-None-Match with 304 Not Modified before touching the database.
  */
 @RestController
 @RequestMapping("/api/tasks")
-@CrossOrigin(origins = "http://localhost:5173")
+@CrossOrigin(origins = "http://localhost:5173", exposedHeaders = {TaskController.NEXT_CURSOR_HEADER, HttpHeaders.ETAG})
 @Tag(name = "Task Management", description = "APIs for managing tasks and habits")
 public class TaskController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TaskService taskService;
+    private final RolloverScheduler rolloverScheduler;
+    private final TaskChangeTracker taskChangeTracker;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final Clock clock;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, RolloverScheduler rolloverScheduler,
+                          TaskChangeTracker taskChangeTracker, TaskEventBroadcaster taskEventBroadcaster,
+                          Clock clock) {
         this.taskService = taskService;
+        this.rolloverScheduler = rolloverScheduler;
+        this.taskChangeTracker = taskChangeTracker;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.clock = clock;
     }
 
     /**
@@ -62,11 +89,16 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task found",
                     content = @Content(schema = @Schema(implementation = TaskResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Task unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Task not found")
     })
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponseDTO> getTaskById(
-            @Parameter(description = "Task ID") @PathVariable Long id) {
+            @Parameter(description = "Task ID") @PathVariable Long id,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(taskChangeTracker.taskTag(id))) {
+            return null;
+        }
         TaskResponseDTO task = taskService.getTaskById(id);
         return ResponseEntity.ok(task);
     }
@@ -74,11 +106,23 @@ public class TaskController {
     /**
      * Get all tasks
      * GET /api/tasks
+     *
+     * The listing endpoints page with ?limit=N; the cursor of the next page is returned in the
+     * X-Next-Cursor header (absent on the last page) and passed back as ?cursor=.
      */
-    @Operation(summary = "Get all tasks", description = "Retrieves all tasks in the system")
+    @Operation(summary = "Get all tasks",
+            description = "Retrieves all tasks in the system, or one page of them when limit or cursor is given")
     @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully")
     @GetMapping
-    public ResponseEntity<List<TaskResponseDTO>> getAllTasks() {
+    public ResponseEntity<List<TaskResponseDTO>> getAllTasks(
+            @Valid @ParameterObject TaskPageRequestDTO page,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(taskChangeTracker.tasksTag())) {
+            return null;
+        }
+        if (page.isPaged()) {
+            return pageResponse(taskService.getAllTasks(page));
+        }
         List<TaskResponseDTO> tasks = taskService.getAllTasks();
         return ResponseEntity.ok(tasks);
     }
@@ -91,7 +135,15 @@ public class TaskController {
             description = "Retrieves all tasks sorted by priority (HIGH to LOW)")
     @ApiResponse(responseCode = "200", description = "Tasks retrieved and sorted successfully")
     @GetMapping("/sorted-by-priority")
-    public ResponseEntity<List<TaskResponseDTO>> getTasksSortedByPriority() {
+    public ResponseEntity<List<TaskResponseDTO>> getTasksSortedByPriority(
+            @Valid @ParameterObject TaskPageRequestDTO page,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(taskChangeTracker.tasksTag())) {
+            return null;
+        }
+        if (page.isPaged()) {
+            return pageResponse(taskService.getAllTasksSortedByPriority(page));
+        }
         List<TaskResponseDTO> tasks = taskService.getAllTasksSortedByPriority();
         return ResponseEntity.ok(tasks);
     }
@@ -107,9 +159,13 @@ public class TaskController {
     public ResponseEntity<List<TaskResponseDTO>> getActiveTasksByDate(
             @Parameter(description = "Date in format yyyy-MM-dd (defaults to today)")
             @RequestParam(required = false)
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(taskChangeTracker.tasksTag())) {
+            return null;
+        }
 
-        LocalDate searchDate = (date != null) ? date : LocalDate.now();
+        LocalDate searchDate = (date != null) ? date : LocalDate.now(clock);
         List<TaskResponseDTO> tasks = taskService.getActiveTasksByDate(searchDate);
         return ResponseEntity.ok(tasks);
     }
@@ -124,7 +180,15 @@ public class TaskController {
     @GetMapping("/by-priority")
     public ResponseEntity<List<TaskResponseDTO>> getTasksByPriority(
             @Parameter(description = "Priority level (LOW, MEDIUM, HIGH)")
-            @RequestParam Priority priority) {
+            @RequestParam Priority priority,
+            @Valid @ParameterObject TaskPageRequestDTO page,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(taskChangeTracker.tasksTag())) {
+            return null;
+        }
+        if (page.isPaged()) {
+            return pageResponse(taskService.getTasksByPriority(priority, page));
+        }
         List<TaskResponseDTO> tasks = taskService.getTasksByPriority(priority);
         return ResponseEntity.ok(tasks);
     }
@@ -138,7 +202,7 @@ public class TaskController {
             @ApiResponse(responseCode = "200", description = "Task updated successfully",
                     content = @Content(schema = @Schema(implementation = TaskResponseDTO.class))),
             @ApiResponse(responseCode = "404", description = "Task not found"),
-            @ApiResponse(responseCode = "400", description = "Invalid input data")
+            @ApiResponse(responseCode = "400", description = "Invalid input data, or dates that would exclude recorded completions")
     })
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponseDTO> updateTask(
@@ -173,46 +237,159 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task marked as completed successfully"),
             @ApiResponse(responseCode = "404", description = "Task not found"),
-            @ApiResponse(responseCode = "400", description = "Invalid completion data or task already completed for this date")
+            @ApiResponse(responseCode = "400", description = "Invalid completion data or task already completed for this date"),
+            @ApiResponse(responseCode = "422", description = "Idempotency key already used for a different completion")
     })
     @PostMapping("/complete")
     public ResponseEntity<String> completeTask(
-            @Valid @RequestBody TaskCompletionDTO completionDTO) {
-        taskService.completeTask(completionDTO);
+            @Valid @RequestBody TaskCompletionDTO completionDTO,
+            @Parameter(description = "Client-chosen key; retrying with the same key succeeds without completing twice")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        taskService.completeTask(completionDTO, idempotencyKey);
         return ResponseEntity.ok("Task marked as completed successfully");
     }
 
+    /**
+     * Mark many tasks as completed in one request
+     * POST /api/tasks/complete/batch
+     *
+     * Items are applied in order and each gets its own result, so offline clients
+     * can flush a backlog without failing on already-synced entries.
+     */
+    @Operation(summary = "Mark tasks as completed in a batch",
+            description = "Records up to 1000 task completions in one transaction and returns a result per item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see the per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchCompletionResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Empty, oversized or malformed batch")
+    })
+    @PostMapping("/complete/batch")
+    public ResponseEntity<BatchCompletionResultDTO> completeTasks(
+            @Valid @RequestBody BatchCompletionRequestDTO batchRequest) {
+        BatchCompletionResultDTO result = taskService.completeTasks(batchRequest.getCompletions());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Import tasks and completion history
+     * POST /api/tasks/import
+     *
+     * The body is NDJSON (application/x-ndjson) or CSV with a header row (text/csv), one
+     * record per line: {"type":"task","ref":"r1",...TaskRequestDTO fields} or
+     * {"type":"completion","ref":"r1","completionDate":"2024-12-26"}. It is read as a
+     * stream, so imports of any size can be sent in one request.
+     */
+    @Operation(summary = "Import tasks and completion history",
+            description = "Streams NDJSON or CSV task and completion records into the database in batches, " +
+                    "then rebuilds the accumulated value and last processed date of each imported task")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished; see the report for rejected records",
+                    content = @Content(schema = @Schema(implementation = ImportReportDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Unreadable body or missing CSV header"),
+            @ApiResponse(responseCode = "415", description = "Body is neither NDJSON nor CSV")
+    })
+    @PostMapping(value = "/import", consumes = {TransferFormat.NDJSON_VALUE, TransferFormat.CSV_VALUE})
+    public ResponseEntity<ImportReportDTO> importTasks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        ImportReportDTO report = taskService.importTasks(body, TransferFormat.of(contentType));
+        return ResponseEntity.ok(report);
+    }
+
     /**
      * Get completion statistics for a task
-     * GET /api/tasks/{id}/statistics
+     * GET /api/tasks/{id}/statistics?from=2024-01-01&to=2024-12-31&includeDates=true&limit=100
+     *
+     * Completed dates are returned most recent first, one page at a time;
+     * pass nextCursor back as cursor to fetch the next page.
+     * format=RANGES returns contiguous [from, to] runs and format=BITMAP a base64
+     * day bitmap anchored at bitmapStart instead of one entry per date.
      */
     @Operation(summary = "Get task completion statistics",
-            description = "Retrieves detailed completion statistics for a task")
+            description = "Retrieves completion statistics for a task, optionally for a date window " +
+                    "and with a page of completed dates")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
                     content = @Content(schema = @Schema(implementation = CompletionStatisticsDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Statistics unchanged since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid date window or limit"),
             @ApiResponse(responseCode = "404", description = "Task not found")
     })
     @GetMapping("/{id}/statistics")
     public ResponseEntity<CompletionStatisticsDTO> getCompletionStatistics(
-            @Parameter(description = "Task ID") @PathVariable Long id) {
-        CompletionStatisticsDTO statistics = taskService.getCompletionStatistics(id);
+            @Parameter(description = "Task ID") @PathVariable Long id,
+            @Valid @ParameterObject StatisticsRequestDTO request,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(taskChangeTracker.taskTag(id))) {
+            return null;
+        }
+        CompletionStatisticsDTO statistics = taskService.getCompletionStatistics(id, request);
         return ResponseEntity.ok(statistics);
     }
 
+    /**
+     * Stream task changes as Server-Sent Events
+     * GET /api/tasks/events
+     *
+     * One event per committed change, named after its type (CREATED, UPDATED, DELETED,
+     * COMPLETED, ROLLED_OVER, IMPORTED) with a TaskEventDTO as data. Events are not
+     * replayed: a client that reconnects should refetch what it displays.
+     */
+    @Operation(summary = "Stream task changes",
+            description = "Server-Sent Events stream of task create, update, delete, completion, " +
+                    "rollover and import events")
+    @ApiResponse(responseCode = "200", description = "Event stream opened",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = TaskEventDTO.class)))
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents() {
+        return taskEventBroadcaster.subscribe();
+    }
+
     /**
      * Trigger daily rollover processing
      * POST /api/tasks/process-daily-rollover
      *
      * This endpoint manually triggers the daily rollover logic for all tasks.
-     * In a production system, this would typically be scheduled to run automatically.
+     * Rollover also runs automatically at the time configured in application.yml;
+     * a manual run is refused while another run is in progress.
      */
     @Operation(summary = "Process daily rollover",
             description = "Manually triggers daily rollover processing for all tasks")
-    @ApiResponse(responseCode = "200", description = "Daily rollover processed successfully")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Daily rollover processed successfully",
+                    content = @Content(schema = @Schema(implementation = RolloverReportDTO.class))),
+            @ApiResponse(responseCode = "409", description = "Another rollover is already in progress")
+    })
     @PostMapping("/process-daily-rollover")
-    public ResponseEntity<String> processDailyRollover() {
-        taskService.processDailyRollover();
-        return ResponseEntity.ok("Daily rollover processed successfully");
+    public ResponseEntity<RolloverReportDTO> processDailyRollover(
+            @Parameter(description = "Rollover mode (BATCH, CHUNKED); defaults to the configured mode")
+            @RequestParam(required = false) RolloverMode mode) {
+        RolloverReportDTO report = rolloverScheduler.runNow(mode);
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Get recent rollover runs
+     * GET /api/tasks/rollover-runs
+     */
+    @Operation(summary = "Get recent rollover runs",
+            description = "Retrieves the most recent scheduled, catch-up and manual rollover runs")
+    @ApiResponse(responseCode = "200", description = "Rollover runs retrieved successfully")
+    @GetMapping("/rollover-runs")
+    public ResponseEntity<List<RolloverRunDTO>> getRolloverRuns() {
+        List<RolloverRunDTO> runs = rolloverScheduler.getRecentRuns();
+        return ResponseEntity.ok(runs);
+    }
+
+    /**
+     * Return a page of tasks as a plain array, with the next cursor in a header.
+     */
+    private ResponseEntity<List<TaskResponseDTO>> pageResponse(TaskPageDTO page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTasks());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package com.university.habittracker.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for marking many tasks as completed in one request.
+ * Items are applied in order; each one gets its own result.
+ */
+public class BatchCompletionRequestDTO {
+
+    @NotEmpty(message = "At least one completion is required")
+    @Size(max = 1000, message = "A batch cannot contain more than 1000 completions")
+    private List<@Valid TaskCompletionDTO> completions;
+
+    // Constructors
+    public BatchCompletionRequestDTO() {}
+
+    public BatchCompletionRequestDTO(List<TaskCompletionDTO> completions) {
+        this.completions = completions;
+    }
+
+    // Getters and Setters
+    public List<TaskCompletionDTO> getCompletions() {
+        return completions;
+    }
+
+    public void setCompletions(List<TaskCompletionDTO> completions) {
+        this.completions = completions;
+    }
+}
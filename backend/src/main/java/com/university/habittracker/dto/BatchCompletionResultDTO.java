@@ -0,0 +1,48 @@
+package com.university.habittracker.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the response of a batch completion request:
+ * one result per requested item, in request order, plus totals.
+ */
+public class BatchCompletionResultDTO {
+
+    private int completed;
+    private int rejected;
+    private List<CompletionResultDTO> results;
+
+    // Constructors
+    public BatchCompletionResultDTO() {}
+
+    public BatchCompletionResultDTO(int completed, int rejected, List<CompletionResultDTO> results) {
+        this.completed = completed;
+        this.rejected = rejected;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public int getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(int completed) {
+        this.completed = completed;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<CompletionResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<CompletionResultDTO> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,22 @@
+package com.university.habittracker.dto;
+
+/**
+ * Representation of completed dates in the statistics response.
+ */
+public enum CompletionDatesFormat {
+    /**
+     * One ISO date per completion, most recent first (default).
+     */
+    LIST,
+
+    /**
+     * Contiguous runs of completed days as [from, to] ranges, most recent first.
+     */
+    RANGES,
+
+    /**
+     * Base64 day bitmap anchored at the task's start date: bit i is startDate + i days,
+     * stored in byte i / 8 at position i % 8.
+     */
+    BITMAP
+}
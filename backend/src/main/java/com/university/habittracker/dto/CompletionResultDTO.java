@@ -0,0 +1,58 @@
+package com.university.habittracker.dto;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for the result of one item of a batch completion request.
+ */
+public class CompletionResultDTO {
+
+    private Long taskId;
+    private LocalDate completionDate;
+    private CompletionStatus status;
+    private String message;
+
+    // Constructors
+    public CompletionResultDTO() {}
+
+    public CompletionResultDTO(Long taskId, LocalDate completionDate,
+                               CompletionStatus status, String message) {
+        this.taskId = taskId;
+        this.completionDate = completionDate;
+        this.status = status;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public LocalDate getCompletionDate() {
+        return completionDate;
+    }
+
+    public void setCompletionDate(LocalDate completionDate) {
+        this.completionDate = completionDate;
+    }
+
+    public CompletionStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(CompletionStatus status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -14,8 +14,17 @@ public class CompletionStatisticsDTO {
     private Integer totalPossibleDays;
     private Double completionRate;
     private List<LocalDate> completedDates;
+    private List<DateRangeDTO> completedRanges;
+    private String completionBitmap;
+    private LocalDate bitmapStart;
     private LocalDate firstCompletion;
     private LocalDate lastCompletion;
+    private Integer currentStreak;
+    private Integer longestStreak;
+    private LocalDate streakEndDate;
+    private LocalDate windowStart;
+    private LocalDate windowEnd;
+    private LocalDate nextCursor;
 
     // Constructors
     public CompletionStatisticsDTO() {}
@@ -23,7 +32,8 @@ public class CompletionStatisticsDTO {
     public CompletionStatisticsDTO(Long taskId, String taskTitle, Integer totalCompletions,
                                    Integer totalPossibleDays, Double completionRate,
                                    List<LocalDate> completedDates, LocalDate firstCompletion,
-                                   LocalDate lastCompletion) {
+                                   LocalDate lastCompletion, Integer currentStreak,
+                                   Integer longestStreak, LocalDate streakEndDate) {
         this.taskId = taskId;
         this.taskTitle = taskTitle;
         this.totalCompletions = totalCompletions;
@@ -32,6 +42,9 @@ public class CompletionStatisticsDTO {
         this.completedDates = completedDates;
         this.firstCompletion = firstCompletion;
         this.lastCompletion = lastCompletion;
+        this.currentStreak = currentStreak;
+        this.longestStreak = longestStreak;
+        this.streakEndDate = streakEndDate;
     }
 
     // Getters and Setters
@@ -98,4 +111,76 @@ public class CompletionStatisticsDTO {
     public void setLastCompletion(LocalDate lastCompletion) {
         this.lastCompletion = lastCompletion;
     }
-}
\ No newline at end of file
+
+    public Integer getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public void setCurrentStreak(Integer currentStreak) {
+        this.currentStreak = currentStreak;
+    }
+
+    public Integer getLongestStreak() {
+        return longestStreak;
+    }
+
+    public void setLongestStreak(Integer longestStreak) {
+        this.longestStreak = longestStreak;
+    }
+
+    public LocalDate getStreakEndDate() {
+        return streakEndDate;
+    }
+
+    public void setStreakEndDate(LocalDate streakEndDate) {
+        this.streakEndDate = streakEndDate;
+    }
+
+    public LocalDate getWindowStart() {
+        return windowStart;
+    }
+
+    public void setWindowStart(LocalDate windowStart) {
+        this.windowStart = windowStart;
+    }
+
+    public LocalDate getWindowEnd() {
+        return windowEnd;
+    }
+
+    public void setWindowEnd(LocalDate windowEnd) {
+        this.windowEnd = windowEnd;
+    }
+
+    public LocalDate getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(LocalDate nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public List<DateRangeDTO> getCompletedRanges() {
+        return completedRanges;
+    }
+
+    public void setCompletedRanges(List<DateRangeDTO> completedRanges) {
+        this.completedRanges = completedRanges;
+    }
+
+    public String getCompletionBitmap() {
+        return completionBitmap;
+    }
+
+    public void setCompletionBitmap(String completionBitmap) {
+        this.completionBitmap = completionBitmap;
+    }
+
+    public LocalDate getBitmapStart() {
+        return bitmapStart;
+    }
+
+    public void setBitmapStart(LocalDate bitmapStart) {
+        this.bitmapStart = bitmapStart;
+    }
+}
@@ -0,0 +1,26 @@
+package com.university.habittracker.dto;
+
+/**
+ * Outcome of one item of a batch completion request.
+ */
+public enum CompletionStatus {
+    /**
+     * The completion was recorded.
+     */
+    COMPLETED,
+
+    /**
+     * The task was already completed on that date (earlier, or by a previous item of the batch).
+     */
+    ALREADY_COMPLETED,
+
+    /**
+     * No task exists with the given ID.
+     */
+    TASK_NOT_FOUND,
+
+    /**
+     * The completion date is outside the task's start and end dates.
+     */
+    OUT_OF_RANGE
+}
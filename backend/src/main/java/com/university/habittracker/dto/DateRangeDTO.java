@@ -0,0 +1,37 @@
+package com.university.habittracker.dto;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for a contiguous, inclusive range of dates.
+ */
+public class DateRangeDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+
+    // Constructors
+    public DateRangeDTO() {}
+
+    public DateRangeDTO(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    // Getters and Setters
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+}
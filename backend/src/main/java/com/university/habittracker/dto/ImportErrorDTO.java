@@ -0,0 +1,35 @@
+package com.university.habittracker.dto;
+
+/**
+ * DTO for one rejected record of a task import.
+ */
+public class ImportErrorDTO {
+
+    private long line;
+    private String message;
+
+    // Constructors
+    public ImportErrorDTO() {}
+
+    public ImportErrorDTO(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
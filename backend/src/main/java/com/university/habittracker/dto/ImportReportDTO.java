@@ -0,0 +1,61 @@
+package com.university.habittracker.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the outcome of a task import: how many records were written and rejected,
+ * and the first rejected records with their line numbers.
+ */
+public class ImportReportDTO {
+
+    private int tasksImported;
+    private long completionsImported;
+    private long rejected;
+    private List<ImportErrorDTO> errors = new ArrayList<>();
+    private long durationMillis;
+
+    // Constructors
+    public ImportReportDTO() {}
+
+    // Getters and Setters
+    public int getTasksImported() {
+        return tasksImported;
+    }
+
+    public void setTasksImported(int tasksImported) {
+        this.tasksImported = tasksImported;
+    }
+
+    public long getCompletionsImported() {
+        return completionsImported;
+    }
+
+    public void setCompletionsImported(long completionsImported) {
+        this.completionsImported = completionsImported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<ImportErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+}
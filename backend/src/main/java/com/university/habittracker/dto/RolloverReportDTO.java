@@ -0,0 +1,117 @@
+package com.university.habittracker.dto;
+
+import java.time.LocalDate;
+
+/**
+ * DTO describing the outcome of a daily rollover run.
+ * Includes per-phase timings so slow runs can be diagnosed.
+ */
+public class RolloverReportDTO {
+
+    private LocalDate runDate;
+    private String mode;
+    private Integer tasksProcessed;
+    private Long daysRolled;
+    private Long loadMillis;
+    private Long computeMillis;
+    private Long writeMillis;
+    private Long totalMillis;
+    private Integer chunksCompleted;
+    private Integer chunksFailed;
+
+    // Constructors
+    public RolloverReportDTO() {}
+
+    public RolloverReportDTO(LocalDate runDate, Integer tasksProcessed, Long daysRolled,
+                             Long loadMillis, Long computeMillis, Long writeMillis,
+                             Long totalMillis) {
+        this.runDate = runDate;
+        this.tasksProcessed = tasksProcessed;
+        this.daysRolled = daysRolled;
+        this.loadMillis = loadMillis;
+        this.computeMillis = computeMillis;
+        this.writeMillis = writeMillis;
+        this.totalMillis = totalMillis;
+    }
+
+    // Getters and Setters
+    public LocalDate getRunDate() {
+        return runDate;
+    }
+
+    public void setRunDate(LocalDate runDate) {
+        this.runDate = runDate;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public Integer getTasksProcessed() {
+        return tasksProcessed;
+    }
+
+    public void setTasksProcessed(Integer tasksProcessed) {
+        this.tasksProcessed = tasksProcessed;
+    }
+
+    public Long getDaysRolled() {
+        return daysRolled;
+    }
+
+    public void setDaysRolled(Long daysRolled) {
+        this.daysRolled = daysRolled;
+    }
+
+    public Long getLoadMillis() {
+        return loadMillis;
+    }
+
+    public void setLoadMillis(Long loadMillis) {
+        this.loadMillis = loadMillis;
+    }
+
+    public Long getComputeMillis() {
+        return computeMillis;
+    }
+
+    public void setComputeMillis(Long computeMillis) {
+        this.computeMillis = computeMillis;
+    }
+
+    public Long getWriteMillis() {
+        return writeMillis;
+    }
+
+    public void setWriteMillis(Long writeMillis) {
+        this.writeMillis = writeMillis;
+    }
+
+    public Long getTotalMillis() {
+        return totalMillis;
+    }
+
+    public void setTotalMillis(Long totalMillis) {
+        this.totalMillis = totalMillis;
+    }
+
+    public Integer getChunksCompleted() {
+        return chunksCompleted;
+    }
+
+    public void setChunksCompleted(Integer chunksCompleted) {
+        this.chunksCompleted = chunksCompleted;
+    }
+
+    public Integer getChunksFailed() {
+        return chunksFailed;
+    }
+
+    public void setChunksFailed(Integer chunksFailed) {
+        this.chunksFailed = chunksFailed;
+    }
+}
@@ -0,0 +1,143 @@
+package com.university.habittracker.dto;
+
+import com.university.habittracker.entity.RolloverOutcome;
+import com.university.habittracker.entity.RolloverTrigger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for returning a recorded rollover run to clients.
+ */
+public class RolloverRunDTO {
+
+    private Long id;
+    private LocalDate runDate;
+    private RolloverTrigger trigger;
+    private String mode;
+    private RolloverOutcome outcome;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long durationMillis;
+    private Long lagMillis;
+    private Integer tasksProcessed;
+    private Long daysRolled;
+    private String message;
+
+    // Constructors
+    public RolloverRunDTO() {}
+
+    public RolloverRunDTO(Long id, LocalDate runDate, RolloverTrigger trigger, String mode,
+                          RolloverOutcome outcome, LocalDateTime startedAt, LocalDateTime finishedAt,
+                          Long durationMillis, Long lagMillis, Integer tasksProcessed,
+                          Long daysRolled, String message) {
+        this.id = id;
+        this.runDate = runDate;
+        this.trigger = trigger;
+        this.mode = mode;
+        this.outcome = outcome;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.durationMillis = durationMillis;
+        this.lagMillis = lagMillis;
+        this.tasksProcessed = tasksProcessed;
+        this.daysRolled = daysRolled;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getRunDate() {
+        return runDate;
+    }
+
+    public void setRunDate(LocalDate runDate) {
+        this.runDate = runDate;
+    }
+
+    public RolloverTrigger getTrigger() {
+        return trigger;
+    }
+
+    public void setTrigger(RolloverTrigger trigger) {
+        this.trigger = trigger;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public RolloverOutcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(RolloverOutcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public Long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(Long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public Long getLagMillis() {
+        return lagMillis;
+    }
+
+    public void setLagMillis(Long lagMillis) {
+        this.lagMillis = lagMillis;
+    }
+
+    public Integer getTasksProcessed() {
+        return tasksProcessed;
+    }
+
+    public void setTasksProcessed(Integer tasksProcessed) {
+        this.tasksProcessed = tasksProcessed;
+    }
+
+    public Long getDaysRolled() {
+        return daysRolled;
+    }
+
+    public void setDaysRolled(Long daysRolled) {
+        this.daysRolled = daysRolled;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,115 @@
+package com.university.habittracker.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * DTO holding the optional query parameters of the statistics endpoint.
+ * Bound from the query string; all fields are optional, but an empty format or limit
+ * parameter is rejected rather than replacing the default with null.
+ */
+public class StatisticsRequestDTO {
+
+    /**
+     * Whether to include completed dates in the response.
+     */
+    private boolean includeDates;
+
+    /**
+     * Representation of completed dates when included (LIST, RANGES or BITMAP).
+     */
+    @NotNull(message = "Format must not be empty")
+    private CompletionDatesFormat format = CompletionDatesFormat.LIST;
+
+    /**
+     * First day of the statistics window (inclusive).
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    /**
+     * Last day of the statistics window (inclusive).
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    /**
+     * Keyset cursor: only dates strictly before this one are returned.
+     * Taken from nextCursor of the previous page.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate cursor;
+
+    /**
+     * Page size: number of dates (LIST) or ranges (RANGES) per page.
+     */
+    @NotNull(message = "Limit must not be empty")
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 5000, message = "Limit cannot exceed 5000")
+    private Integer limit = 366;
+
+    // Constructors
+    public StatisticsRequestDTO() {}
+
+    public StatisticsRequestDTO(boolean includeDates, LocalDate from, LocalDate to,
+                                LocalDate cursor, Integer limit) {
+        this.includeDates = includeDates;
+        this.from = from;
+        this.to = to;
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    // Getters and Setters
+    public boolean isIncludeDates() {
+        return includeDates;
+    }
+
+    public void setIncludeDates(boolean includeDates) {
+        this.includeDates = includeDates;
+    }
+
+    public CompletionDatesFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(CompletionDatesFormat format) {
+        this.format = format;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public LocalDate getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(LocalDate cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+}
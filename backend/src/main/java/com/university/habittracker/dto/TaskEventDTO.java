@@ -0,0 +1,70 @@
+package com.university.habittracker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.university.habittracker.events.TaskEventType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for one change on the task event stream (GET /api/tasks/events).
+ *
+ * taskIds lists the changed tasks; it is absent for ROLLED_OVER and IMPORTED,
+ * which may touch any task. date is the completion date of a single COMPLETED
+ * event or the run date of ROLLED_OVER, and count the tasks processed or imported.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskEventDTO {
+
+    private TaskEventType type;
+    private List<Long> taskIds;
+    private LocalDate date;
+    private Integer count;
+
+    // Constructors
+    public TaskEventDTO() {}
+
+    public TaskEventDTO(TaskEventType type, List<Long> taskIds) {
+        this(type, taskIds, null, null);
+    }
+
+    public TaskEventDTO(TaskEventType type, List<Long> taskIds, LocalDate date, Integer count) {
+        this.type = type;
+        this.taskIds = taskIds;
+        this.date = date;
+        this.count = count;
+    }
+
+    // Getters and Setters
+    public TaskEventType getType() {
+        return type;
+    }
+
+    public void setType(TaskEventType type) {
+        this.type = type;
+    }
+
+    public List<Long> getTaskIds() {
+        return taskIds;
+    }
+
+    public void setTaskIds(List<Long> taskIds) {
+        this.taskIds = taskIds;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public void setCount(Integer count) {
+        this.count = count;
+    }
+}
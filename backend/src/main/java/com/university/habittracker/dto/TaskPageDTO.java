@@ -0,0 +1,37 @@
+package com.university.habittracker.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one page of tasks and the cursor of the next page (null on the last page).
+ */
+public class TaskPageDTO {
+
+    private List<TaskResponseDTO> tasks;
+    private String nextCursor;
+
+    // Constructors
+    public TaskPageDTO() {}
+
+    public TaskPageDTO(List<TaskResponseDTO> tasks, String nextCursor) {
+        this.tasks = tasks;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<TaskResponseDTO> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskResponseDTO> tasks) {
+        this.tasks = tasks;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,52 @@
+package com.university.habittracker.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * DTO holding the optional keyset paging parameters of the task listing endpoints.
+ * When neither field is set the full list is returned.
+ */
+public class TaskPageRequestDTO {
+
+    /**
+     * Opaque cursor taken from the X-Next-Cursor header of the previous page.
+     */
+    private String cursor;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 500, message = "Limit cannot exceed 500")
+    private Integer limit;
+
+    // Constructors
+    public TaskPageRequestDTO() {}
+
+    public TaskPageRequestDTO(String cursor, Integer limit) {
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    /**
+     * Whether the caller asked for a page rather than the full list.
+     */
+    public boolean isPaged() {
+        return cursor != null || limit != null;
+    }
+
+    // Getters and Setters
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,136 @@
+package com.university.habittracker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.university.habittracker.entity.Priority;
+import java.time.LocalDate;
+
+/**
+ * One record of a task import or export stream (one NDJSON line or one CSV row).
+ *
+ * A "task" record defines a task under a ref chosen by the file; a "completion" record
+ * marks the task with that ref as completed on completionDate. Task records must come
+ * before the completions that refer to them.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"type", "ref", "title", "description", "dailyTargetValue", "priority",
+        "startDate", "endDate", "completionDate"})
+public class TaskTransferRecordDTO {
+
+    public static final String TYPE_TASK = "task";
+    public static final String TYPE_COMPLETION = "completion";
+
+    private String type;
+    private String ref;
+    private String title;
+    private String description;
+    private Integer dailyTargetValue;
+    private Priority priority;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDate completionDate;
+
+    // Constructors
+    public TaskTransferRecordDTO() {}
+
+    public static TaskTransferRecordDTO task(String ref, TaskRequestDTO task) {
+        TaskTransferRecordDTO record = new TaskTransferRecordDTO();
+        record.type = TYPE_TASK;
+        record.ref = ref;
+        record.title = task.getTitle();
+        record.description = task.getDescription();
+        record.dailyTargetValue = task.getDailyTargetValue();
+        record.priority = task.getPriority();
+        record.startDate = task.getStartDate();
+        record.endDate = task.getEndDate();
+        return record;
+    }
+
+    public static TaskTransferRecordDTO completion(String ref, LocalDate completionDate) {
+        TaskTransferRecordDTO record = new TaskTransferRecordDTO();
+        record.type = TYPE_COMPLETION;
+        record.ref = ref;
+        record.completionDate = completionDate;
+        return record;
+    }
+
+    /**
+     * The task fields of this record, to be validated with the TaskRequestDTO rules.
+     */
+    public TaskRequestDTO toTaskRequest() {
+        return new TaskRequestDTO(title, description, dailyTargetValue, priority, startDate, endDate);
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getRef() {
+        return ref;
+    }
+
+    public void setRef(String ref) {
+        this.ref = ref;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Integer getDailyTargetValue() {
+        return dailyTargetValue;
+    }
+
+    public void setDailyTargetValue(Integer dailyTargetValue) {
+        this.dailyTargetValue = dailyTargetValue;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public LocalDate getCompletionDate() {
+        return completionDate;
+    }
+
+    public void setCompletionDate(LocalDate completionDate) {
+        this.completionDate = completionDate;
+    }
+}
@@ -0,0 +1,80 @@
+package com.university.habittracker.entity;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Helpers for the compact day-indexed completion bitmap stored on Task.
+ *
+ * Bit i is set when the task was completed on startDate + i days.
+ * The layout matches java.util.BitSet#toByteArray and H2's BITGET function:
+ * bit i lives in byte i / 8 at position i % 8, so queries can test membership
+ * in SQL without touching completion_history.
+ *
+ * Arrays are treated as immutable: every modification returns a new array.
+ */
+public final class CompletionBitmap {
+
+    /**
+     * Maximum bitmap size in bytes (column length).
+     */
+    public static final int MAX_BYTES = 4096;
+
+    /**
+     * Maximum number of days a bitmap can cover (about 89 years).
+     */
+    public static final int MAX_DAYS = MAX_BYTES * 8;
+
+    public static final byte[] EMPTY = new byte[0];
+
+    private CompletionBitmap() {
+    }
+
+    /**
+     * Check whether the bit for a day offset is set. Out-of-range offsets are never set.
+     */
+    public static boolean get(byte[] bitmap, long index) {
+        if (index < 0 || index >= (long) bitmap.length * 8) {
+            return false;
+        }
+        return (bitmap[(int) (index >>> 3)] & (1 << (index & 7))) != 0;
+    }
+
+    /**
+     * Return a copy of the bitmap with the bit for a day offset set, grown if necessary.
+     */
+    public static byte[] set(byte[] bitmap, int index) {
+        if (index < 0 || index >= MAX_DAYS) {
+            throw new IllegalArgumentException("Day offset out of bitmap range: " + index);
+        }
+        byte[] copy = Arrays.copyOf(bitmap, Math.max(bitmap.length, (index >>> 3) + 1));
+        copy[index >>> 3] |= (byte) (1 << (index & 7));
+        return copy;
+    }
+
+    /**
+     * Return a copy of the bitmap re-anchored to a start date moved by the given
+     * number of days. Positive deltas drop days before the new start date.
+     */
+    public static byte[] shift(byte[] bitmap, long delta) {
+        if (delta == 0 || bitmap.length == 0) {
+            return bitmap;
+        }
+        BitSet source = BitSet.valueOf(bitmap);
+        BitSet shifted = new BitSet();
+        for (int i = source.nextSetBit(0); i >= 0; i = source.nextSetBit(i + 1)) {
+            long target = i - delta;
+            if (target >= 0 && target < MAX_DAYS) {
+                shifted.set((int) target);
+            }
+        }
+        return shifted.toByteArray();
+    }
+
+    /**
+     * View the bitmap as a BitSet for counting and scanning.
+     */
+    public static BitSet toBitSet(byte[] bitmap) {
+        return BitSet.valueOf(bitmap);
+    }
+}
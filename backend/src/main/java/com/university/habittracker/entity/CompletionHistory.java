@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class CompletionHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "completion_history_seq")
+    @SequenceGenerator(name = "completion_history_seq", sequenceName = "completion_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
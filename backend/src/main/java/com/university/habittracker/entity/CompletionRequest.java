@@ -0,0 +1,52 @@
+package com.university.habittracker.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A completion request recorded under its client idempotency key.
+ * Rows are inserted with CompletionRequestRepository#insertIfAbsent and only read back
+ * to answer retries of the same request.
+ */
+@Entity
+@Table(name = "completion_requests")
+public class CompletionRequest {
+
+    /**
+     * SHA-256 hex digest of the Idempotency-Key header.
+     */
+    @Id
+    @Column(length = 64)
+    private String keyHash;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private LocalDate completionDate;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public CompletionRequest() {
+    }
+
+    // Getters and Setters
+    public String getKeyHash() {
+        return keyHash;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public LocalDate getCompletionDate() {
+        return completionDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
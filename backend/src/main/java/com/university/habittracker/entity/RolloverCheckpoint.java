@@ -0,0 +1,134 @@
+package com.university.habittracker.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording the progress of a chunked daily rollover run.
+ * Updated in the same transaction as each committed chunk, so an interrupted
+ * run can be resumed. Task.lastProcessedDate remains the source of truth for
+ * which tasks still need processing.
+ */
+@Entity
+@Table(name = "rollover_checkpoints")
+public class RolloverCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private LocalDate runDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RolloverStatus status;
+
+    @Column(nullable = false)
+    private Integer chunksCompleted;
+
+    @Column(nullable = false)
+    private Integer chunksFailed;
+
+    @Column(nullable = false)
+    private Integer tasksProcessed;
+
+    @Column(nullable = false)
+    private Long daysRolled;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public RolloverCheckpoint() {
+        this.status = RolloverStatus.RUNNING;
+        this.chunksCompleted = 0;
+        this.chunksFailed = 0;
+        this.tasksProcessed = 0;
+        this.daysRolled = 0L;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    public RolloverCheckpoint(LocalDate runDate) {
+        this();
+        this.runDate = runDate;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getRunDate() {
+        return runDate;
+    }
+
+    public void setRunDate(LocalDate runDate) {
+        this.runDate = runDate;
+    }
+
+    public RolloverStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RolloverStatus status) {
+        this.status = status;
+    }
+
+    public Integer getChunksCompleted() {
+        return chunksCompleted;
+    }
+
+    public void setChunksCompleted(Integer chunksCompleted) {
+        this.chunksCompleted = chunksCompleted;
+    }
+
+    public Integer getChunksFailed() {
+        return chunksFailed;
+    }
+
+    public void setChunksFailed(Integer chunksFailed) {
+        this.chunksFailed = chunksFailed;
+    }
+
+    public Integer getTasksProcessed() {
+        return tasksProcessed;
+    }
+
+    public void setTasksProcessed(Integer tasksProcessed) {
+        this.tasksProcessed = tasksProcessed;
+    }
+
+    public Long getDaysRolled() {
+        return daysRolled;
+    }
+
+    public void setDaysRolled(Long daysRolled) {
+        this.daysRolled = daysRolled;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
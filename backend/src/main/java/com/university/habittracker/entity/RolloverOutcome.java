@@ -0,0 +1,11 @@
+package com.university.habittracker.entity;
+
+/**
+ * Enumeration representing how a daily rollover run ended.
+ * SKIPPED means the run was refused because another run was in progress.
+ */
+public enum RolloverOutcome {
+    SUCCEEDED,
+    FAILED,
+    SKIPPED
+}
@@ -0,0 +1,155 @@
+package com.university.habittracker.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording a single daily rollover execution.
+ * Keeps duration, task count, outcome and lag behind the scheduled time,
+ * so missed or slow rollovers are visible.
+ */
+@Entity
+@Table(name = "rollover_runs")
+public class RolloverRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate runDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RolloverTrigger trigger;
+
+    @Column(length = 20)
+    private String mode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RolloverOutcome outcome;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private Long durationMillis;
+
+    private Long lagMillis;
+
+    private Integer tasksProcessed;
+
+    private Long daysRolled;
+
+    @Column(length = 1000)
+    private String message;
+
+    // Constructors
+    public RolloverRun() {}
+
+    public RolloverRun(LocalDate runDate, RolloverTrigger trigger, LocalDateTime startedAt) {
+        this.runDate = runDate;
+        this.trigger = trigger;
+        this.startedAt = startedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getRunDate() {
+        return runDate;
+    }
+
+    public void setRunDate(LocalDate runDate) {
+        this.runDate = runDate;
+    }
+
+    public RolloverTrigger getTrigger() {
+        return trigger;
+    }
+
+    public void setTrigger(RolloverTrigger trigger) {
+        this.trigger = trigger;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public RolloverOutcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(RolloverOutcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public Long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(Long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public Long getLagMillis() {
+        return lagMillis;
+    }
+
+    public void setLagMillis(Long lagMillis) {
+        this.lagMillis = lagMillis;
+    }
+
+    public Integer getTasksProcessed() {
+        return tasksProcessed;
+    }
+
+    public void setTasksProcessed(Integer tasksProcessed) {
+        this.tasksProcessed = tasksProcessed;
+    }
+
+    public Long getDaysRolled() {
+        return daysRolled;
+    }
+
+    public void setDaysRolled(Long daysRolled) {
+        this.daysRolled = daysRolled;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
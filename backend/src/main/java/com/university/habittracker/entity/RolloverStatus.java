@@ -0,0 +1,10 @@
+package com.university.habittracker.entity;
+
+/**
+ * Enumeration representing the state of a daily rollover run.
+ */
+public enum RolloverStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,10 @@
+package com.university.habittracker.entity;
+
+/**
+ * Enumeration representing what started a daily rollover run.
+ */
+public enum RolloverTrigger {
+    SCHEDULED,
+    STARTUP_CATCH_UP,
+    MANUAL
+}
@@ -2,8 +2,12 @@ package com.university.habittracker.entity;
 
 import jakarta.persistence.*;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
 
 /**
  * Entity representing a task/habit in the system.
@@ -14,8 +18,13 @@ import java.util.List;
 @Table(name = "tasks")
 public class Task {
 
+    /**
+     * Sequence-generated with a pooled optimizer (one sequence call per 50 ids),
+     * so Hibernate can batch inserts; IDENTITY would force one round trip per row.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -34,6 +43,13 @@ public class Task {
     @Column(nullable = false)
     private Priority priority;
 
+    /**
+     * Numeric priority (Priority#getValue), persisted so priority ordering can use an index.
+     * Always set together with priority.
+     */
+    @Column(nullable = false)
+    private Integer priorityRank;
+
     @Column(nullable = false)
     private LocalDate startDate;
 
@@ -46,14 +62,55 @@ public class Task {
     @Column(nullable = false)
     private boolean active;
 
+    /**
+     * Day-indexed completion bitmap, offset from startDate (see CompletionBitmap).
+     * Kept in sync with completion_history inside completeTask.
+     */
+    @Column(nullable = false, length = CompletionBitmap.MAX_BYTES)
+    private byte[] completionBitmap;
+
+    /**
+     * Completion counters, maintained incrementally on every recorded completion
+     * so statistics never have to scan completion_history.
+     */
+    @Column(nullable = false)
+    private Integer totalCompletions;
+
+    private LocalDate firstCompletion;
+
+    private LocalDate lastCompletion;
+
+    /**
+     * Streak values, maintained incrementally by StreakEngine on completion and rollover.
+     * streakEndDate is the last day of the most recent run of consecutive completions.
+     */
+    @Column(nullable = false)
+    private Integer currentStreak;
+
+    @Column(nullable = false)
+    private Integer longestStreak;
+
+    private LocalDate streakEndDate;
+
+    /**
+     * Optimistic lock: incremented on every update, including the rollover's JDBC
+     * batch updates, so concurrent writers cannot silently overwrite each other.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CompletionHistory> completionHistories = new ArrayList<>();
 
     // Constructors
     public Task() {
         this.accumulatedValue = 0;
-        this.lastProcessedDate = LocalDate.now().minusDays(1);
         this.active = true;
+        this.completionBitmap = CompletionBitmap.EMPTY;
+        this.totalCompletions = 0;
+        this.currentStreak = 0;
+        this.longestStreak = 0;
     }
 
     public Task(String title, String description, Integer dailyTargetValue,
@@ -62,9 +119,11 @@ public class Task {
         this.title = title;
         this.description = description;
         this.dailyTargetValue = dailyTargetValue;
-        this.priority = priority;
+        setPriority(priority);
         this.startDate = startDate;
         this.endDate = endDate;
+        // Nothing processed yet; callers creating a task today set the day before today instead
+        this.lastProcessedDate = startDate.minusDays(1);
     }
 
     // Getters and Setters
@@ -114,6 +173,11 @@ public class Task {
 
     public void setPriority(Priority priority) {
         this.priority = priority;
+        this.priorityRank = priority != null ? priority.getValue() : null;
+    }
+
+    public Integer getPriorityRank() {
+        return priorityRank;
     }
 
     public LocalDate getStartDate() {
@@ -121,6 +185,15 @@ public class Task {
     }
 
     public void setStartDate(LocalDate startDate) {
+        // Re-anchor the completion bitmap when an existing start date moves
+        if (this.startDate != null && startDate != null) {
+            long delta = ChronoUnit.DAYS.between(this.startDate, startDate);
+            this.completionBitmap = CompletionBitmap.shift(completionBitmap, delta);
+            this.startDate = startDate;
+            // Callers keep completions in range; this only matters if one would fall out of the bitmap
+            refreshCompletionCounters();
+            return;
+        }
         this.startDate = startDate;
     }
 
@@ -148,6 +221,66 @@ public class Task {
         this.active = active;
     }
 
+    public byte[] getCompletionBitmap() {
+        return completionBitmap;
+    }
+
+    public void setCompletionBitmap(byte[] completionBitmap) {
+        this.completionBitmap = completionBitmap;
+    }
+
+    public Integer getTotalCompletions() {
+        return totalCompletions;
+    }
+
+    public void setTotalCompletions(Integer totalCompletions) {
+        this.totalCompletions = totalCompletions;
+    }
+
+    public LocalDate getFirstCompletion() {
+        return firstCompletion;
+    }
+
+    public void setFirstCompletion(LocalDate firstCompletion) {
+        this.firstCompletion = firstCompletion;
+    }
+
+    public LocalDate getLastCompletion() {
+        return lastCompletion;
+    }
+
+    public void setLastCompletion(LocalDate lastCompletion) {
+        this.lastCompletion = lastCompletion;
+    }
+
+    public Integer getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public void setCurrentStreak(Integer currentStreak) {
+        this.currentStreak = currentStreak;
+    }
+
+    public Integer getLongestStreak() {
+        return longestStreak;
+    }
+
+    public void setLongestStreak(Integer longestStreak) {
+        this.longestStreak = longestStreak;
+    }
+
+    public LocalDate getStreakEndDate() {
+        return streakEndDate;
+    }
+
+    public void setStreakEndDate(LocalDate streakEndDate) {
+        this.streakEndDate = streakEndDate;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
     public List<CompletionHistory> getCompletionHistories() {
         return completionHistories;
     }
@@ -157,10 +290,80 @@ public class Task {
     }
 
     /**
-     * Checks if the task is currently active based on today's date.
+     * Checks if the task is active on the given date (today, from the application Clock).
      */
-    public boolean isActive() {
-        LocalDate today = LocalDate.now();
+    public boolean isActive(LocalDate today) {
         return active && !today.isBefore(startDate) && !today.isAfter(endDate);
     }
-}
\ No newline at end of file
+
+    /**
+     * Checks if the task was completed on a specific date, using the completion bitmap.
+     */
+    public boolean isCompletedOn(LocalDate date) {
+        return CompletionBitmap.get(completionBitmap, ChronoUnit.DAYS.between(startDate, date));
+    }
+
+    /**
+     * Records a new completion on a specific date: sets the bit in the completion
+     * bitmap and updates the completion counters.
+     * The date must not be before the start date nor already be completed.
+     */
+    public void recordCompletion(LocalDate date) {
+        int index = (int) ChronoUnit.DAYS.between(startDate, date);
+        this.completionBitmap = CompletionBitmap.set(completionBitmap, index);
+
+        this.totalCompletions++;
+        if (firstCompletion == null || date.isBefore(firstCompletion)) {
+            this.firstCompletion = date;
+        }
+        if (lastCompletion == null || date.isAfter(lastCompletion)) {
+            this.lastCompletion = date;
+        }
+    }
+
+    /**
+     * Replaces every completion at once (bit i = startDate + i days) and recomputes
+     * the completion counters. Streaks are left to the StreakEngine.
+     */
+    public void replaceCompletions(BitSet completions) {
+        this.completionBitmap = completions.toByteArray();
+        refreshCompletionCounters();
+    }
+
+    /**
+     * Returns the completion dates between two dates (inclusive), using the completion bitmap.
+     */
+    public NavigableSet<LocalDate> getCompletionDatesBetween(LocalDate from, LocalDate to) {
+        NavigableSet<LocalDate> dates = new TreeSet<>();
+        BitSet bits = CompletionBitmap.toBitSet(completionBitmap);
+        long fromIndex = Math.max(0, ChronoUnit.DAYS.between(startDate, from));
+        long toIndex = ChronoUnit.DAYS.between(startDate, to);
+        if (fromIndex > toIndex || fromIndex >= bits.length()) {
+            return dates;
+        }
+        for (int i = bits.nextSetBit((int) fromIndex); i >= 0 && i <= toIndex; i = bits.nextSetBit(i + 1)) {
+            dates.add(startDate.plusDays(i));
+        }
+        return dates;
+    }
+
+    /**
+     * Counts completions between two dates (inclusive), using the completion bitmap.
+     */
+    public int countCompletionsBetween(LocalDate from, LocalDate to) {
+        long fromIndex = Math.max(0, ChronoUnit.DAYS.between(startDate, from));
+        long toIndex = ChronoUnit.DAYS.between(startDate, to);
+        BitSet bits = CompletionBitmap.toBitSet(completionBitmap);
+        if (fromIndex > toIndex || fromIndex >= bits.length()) {
+            return 0;
+        }
+        return bits.get((int) fromIndex, (int) Math.min(toIndex + 1, bits.length())).cardinality();
+    }
+
+    private void refreshCompletionCounters() {
+        BitSet bits = CompletionBitmap.toBitSet(completionBitmap);
+        this.totalCompletions = bits.cardinality();
+        this.firstCompletion = bits.isEmpty() ? null : startDate.plusDays(bits.nextSetBit(0));
+        this.lastCompletion = bits.isEmpty() ? null : startDate.plusDays(bits.length() - 1);
+    }
+}
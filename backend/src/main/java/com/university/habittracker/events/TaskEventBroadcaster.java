@@ -0,0 +1,266 @@
+package com.university.habittracker.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.habittracker.config.EventsProperties;
+import com.university.habittracker.dto.TaskEventDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans task change events out to Server-Sent Events subscribers.
+ *
+ * Publishing never blocks on a client: each event is serialized once and offered to
+ * every subscriber's bounded buffer, and a small pool of sender threads drains the
+ * buffers to the connections. A subscriber whose buffer is full is too slow to keep
+ * up and is disconnected; its client reconnects and refetches. Idle connections hold
+ * no thread, only their emitter and buffer.
+ *
+ * Sends are blocking servlet writes, so a client that stops reading can hold a sender
+ * until the container's write timeout. A watchdog disconnects any subscriber whose
+ * send has run longer than events.send-timeout and adds a sender thread for as long
+ * as that write stays blocked, so healthy subscribers always keep the configured
+ * number of senders.
+ *
+ * Subscribers are counted in task.events.subscribers, disconnections for a full
+ * buffer or a stalled send in task.events.dropped.
+ */
+@Component
+public class TaskEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskEventBroadcaster.class);
+
+    private static final Set<DataWithMediaType> CONNECTED = SseEmitter.event().comment("connected").build();
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("keep-alive").build();
+
+    // Subscriber send states, so exactly one of the sender and the watchdog settles a stalled send
+    private static final int SEND_IDLE = 0;
+    private static final int SEND_RUNNING = 1;
+    private static final int SEND_STALLED = 2;
+
+    private final EventsProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor senders;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Counter dropped;
+
+    public TaskEventBroadcaster(EventsProperties properties, ObjectMapper objectMapper, MeterRegistry registry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        AtomicInteger threadCount = new AtomicInteger();
+        int senderThreads = Math.max(1, properties.getSenderThreads());
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "task-events-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dropped = Counter.builder("task.events.dropped")
+                .description("Event stream subscribers disconnected because their buffer was full or a send stalled")
+                .register(registry);
+        registry.gauge("task.events.subscribers", subscribers, Set::size);
+    }
+
+    /**
+     * Open a stream that receives every event published from now on. It starts with a
+     * comment, which commits the response headers before the first event.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(Math.max(1, properties.getBufferSize())));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        // Goes through the subscriber's buffer like any event, so it cannot overtake or interleave with them
+        subscriber.buffer.offer(CONNECTED);
+        subscribers.add(subscriber);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Send an event to every subscriber. Returns without waiting for any of them.
+     */
+    public void publish(TaskEventDTO event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> message;
+        try {
+            message = SseEmitter.event()
+                    .id(Long.toString(sequence.incrementAndGet()))
+                    .name(event.getType().name())
+                    .data(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not serialize task event {}: {}", event.getType(), ex.getMessage());
+            return;
+        }
+        broadcast(message);
+    }
+
+    /**
+     * Keep idle connections open through proxies, and notice clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        broadcast(HEARTBEAT);
+    }
+
+    /**
+     * Disconnect subscribers whose current send has been blocked for longer than the
+     * send timeout, and replace the sender it holds until the write returns.
+     * The emitter is left alone: completing it would wait on the blocked send.
+     */
+    @Scheduled(fixedDelayString = "${events.send-timeout:PT10S}")
+    public void abandonStalledSends() {
+        long timeoutNanos = properties.getSendTimeout().toNanos();
+        long now = System.nanoTime();
+        for (Subscriber subscriber : sending) {
+            if (now - subscriber.sendStartedNanos > timeoutNanos
+                    && subscriber.sendState.compareAndSet(SEND_RUNNING, SEND_STALLED)) {
+                subscriber.closed = true;
+                if (subscribers.remove(subscriber)) {
+                    dropped.increment();
+                    log.debug("Disconnecting stalled event stream subscriber after {} ms in one send",
+                            TimeUnit.NANOSECONDS.toMillis(now - subscriber.sendStartedNanos));
+                }
+                resizeSenders(1);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    // Helper methods
+
+    private void broadcast(Set<DataWithMediaType> message) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.buffer.offer(message)) {
+                schedule(subscriber);
+            } else if (subscribers.remove(subscriber)) {
+                dropped.increment();
+                log.debug("Disconnecting slow event stream subscriber after {} buffered events",
+                        subscriber.buffer.size());
+                subscriber.closed = true;
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Make sure one sender drains the subscriber; at most one runs per subscriber,
+     * which keeps its events in order.
+     */
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Set<DataWithMediaType> message;
+            while (!subscriber.closed && (message = subscriber.buffer.poll()) != null) {
+                try {
+                    send(subscriber, message);
+                } catch (IOException | IllegalStateException ex) {
+                    // Client gone or stream already completed; the container fires the error callback
+                    subscribers.remove(subscriber);
+                    subscriber.closed = true;
+                }
+            }
+            if (subscriber.closed) {
+                // Completed here rather than by the publisher, which must not wait on a blocked send
+                subscriber.buffer.clear();
+                subscriber.emitter.complete();
+                return;
+            }
+            subscriber.draining.set(false);
+            // An event offered after the last poll but before the flag was cleared
+        } while (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    /**
+     * Write one message, visible to the stalled-send watchdog while it runs.
+     */
+    private void send(Subscriber subscriber, Set<DataWithMediaType> message) throws IOException {
+        subscriber.sendStartedNanos = System.nanoTime();
+        subscriber.sendState.set(SEND_RUNNING);
+        sending.add(subscriber);
+        try {
+            subscriber.emitter.send(message);
+        } finally {
+            sending.remove(subscriber);
+            if (!subscriber.sendState.compareAndSet(SEND_RUNNING, SEND_IDLE)) {
+                // The watchdog added a sender in place of this one; give it back
+                subscriber.sendState.set(SEND_IDLE);
+                resizeSenders(-1);
+            }
+        }
+    }
+
+    /**
+     * Grow or shrink the sender pool; the core size must never exceed the maximum.
+     */
+    private synchronized void resizeSenders(int delta) {
+        int size = senders.getCorePoolSize() + delta;
+        if (delta > 0) {
+            senders.setMaximumPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else {
+            senders.setCorePoolSize(size);
+            senders.setMaximumPoolSize(size);
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicInteger sendState = new AtomicInteger(SEND_IDLE);
+        private volatile long sendStartedNanos;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> buffer) {
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.university.habittracker.events;
+
+/**
+ * Kinds of change pushed on the task event stream.
+ */
+public enum TaskEventType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    COMPLETED,
+    /** A daily rollover run finished; any active task may have changed. */
+    ROLLED_OVER,
+    /** An import finished; tasks were added. */
+    IMPORTED
+}
@@ -0,0 +1,12 @@
+package com.university.habittracker.exception;
+
+/**
+ * Exception thrown when an Idempotency-Key already recorded for one completion
+ * is sent again with a different task or date.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException() {
+        super("Idempotency-Key was already used for a different completion");
+    }
+}
@@ -0,0 +1,11 @@
+package com.university.habittracker.exception;
+
+/**
+ * Exception thrown when a paging cursor cannot be decoded.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.university.habittracker.exception;
+
+/**
+ * Exception thrown when an import stream cannot be read at all
+ * (unsupported content type, missing CSV header, unreadable body).
+ * Invalid individual records are reported in the import report instead.
+ */
+public class InvalidImportException extends RuntimeException {
+
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
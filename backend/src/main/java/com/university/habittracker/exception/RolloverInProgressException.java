@@ -0,0 +1,11 @@
+package com.university.habittracker.exception;
+
+/**
+ * Exception thrown when a rollover is requested while another one is still running.
+ */
+public class RolloverInProgressException extends RuntimeException {
+
+    public RolloverInProgressException(String message) {
+        super(message);
+    }
+}
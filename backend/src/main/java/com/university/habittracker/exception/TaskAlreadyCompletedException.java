@@ -0,0 +1,13 @@
+package com.university.habittracker.exception;
+
+import java.time.LocalDate;
+
+/**
+ * Exception thrown when a task is completed twice for the same date.
+ */
+public class TaskAlreadyCompletedException extends IllegalStateException {
+
+    public TaskAlreadyCompletedException(LocalDate completionDate) {
+        super("Task already marked as completed for date: " + completionDate);
+    }
+}
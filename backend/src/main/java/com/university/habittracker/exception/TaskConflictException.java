@@ -0,0 +1,12 @@
+package com.university.habittracker.exception;
+
+/**
+ * Exception thrown when a task write still conflicts with concurrent updates
+ * after the configured number of attempts.
+ */
+public class TaskConflictException extends RuntimeException {
+
+    public TaskConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
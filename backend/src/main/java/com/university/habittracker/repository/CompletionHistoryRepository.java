@@ -2,12 +2,15 @@ package com.university.habittracker.repository;
 
 import com.university.habittracker.entity.CompletionHistory;
 import com.university.habittracker.entity.Task;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +41,19 @@ public interface CompletionHistoryRepository extends JpaRepository<CompletionHis
                                                    @Param("startDate") LocalDate startDate,
                                                    @Param("endDate") LocalDate endDate);
 
+    /**
+     * Find completion dates for a task within a date range, most recent first.
+     * Only the dates are selected and the page size bounds the result, so no
+     * CompletionHistory entities are hydrated.
+     */
+    @Query("SELECT ch.completionDate FROM CompletionHistory ch WHERE ch.task = :task " +
+            "AND ch.completionDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY ch.completionDate DESC")
+    List<LocalDate> findDatesByTaskAndDateRange(@Param("task") Task task,
+                                                @Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate,
+                                                Limit limit);
+
     /**
      * Count total completions for a task.
      */
@@ -52,4 +68,32 @@ public interface CompletionHistoryRepository extends JpaRepository<CompletionHis
      * Delete all completion records for a task.
      */
     void deleteByTask(Task task);
+
+    /**
+     * Delete all completion records for a task in a single bulk statement,
+     * without loading them first.
+     */
+    @Modifying
+    @Query("DELETE FROM CompletionHistory ch WHERE ch.task = :task")
+    int deleteAllByTask(@Param("task") Task task);
+
+    /**
+     * Insert a completion unless the task already has one for that date, in one statement
+     * relying on the (task_id, completion_date) unique constraint instead of a prior lookup.
+     * The id is drawn straight from completion_history_seq; each call uses the top of a
+     * block of 50 that Hibernate's pooled optimizer then never hands out.
+     *
+     * @return 1 if the completion was inserted, 0 if one already existed
+     */
+    @Modifying
+    @Query(value = "MERGE INTO completion_history h " +
+            "USING (VALUES (CAST(:taskId AS BIGINT), CAST(:completionDate AS DATE))) s(task_id, completion_date) " +
+            "ON h.task_id = s.task_id AND h.completion_date = s.completion_date " +
+            "WHEN NOT MATCHED THEN INSERT (id, task_id, completion_date, completed_value, timestamp) " +
+            "VALUES (NEXT VALUE FOR completion_history_seq, s.task_id, s.completion_date, :completedValue, :timestamp)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("taskId") Long taskId,
+                       @Param("completionDate") LocalDate completionDate,
+                       @Param("completedValue") Integer completedValue,
+                       @Param("timestamp") LocalDateTime timestamp);
 }
\ No newline at end of file
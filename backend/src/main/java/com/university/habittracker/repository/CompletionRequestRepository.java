@@ -0,0 +1,42 @@
+package com.university.habittracker.repository;
+
+import com.university.habittracker.entity.CompletionRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for CompletionRequest entity (completion idempotency keys).
+ */
+@Repository
+public interface CompletionRequestRepository extends JpaRepository<CompletionRequest, String> {
+
+    /**
+     * Claim an idempotency key: insert it unless it already exists, in one statement.
+     * A key held by a concurrent, uncommitted request blocks until that request ends.
+     *
+     * @return 1 if the key was claimed, 0 if it was already recorded
+     */
+    @Modifying
+    @Query(value = "MERGE INTO completion_requests r " +
+            "USING (VALUES (CAST(:keyHash AS VARCHAR(64)))) s(key_hash) ON r.key_hash = s.key_hash " +
+            "WHEN NOT MATCHED THEN INSERT (key_hash, task_id, completion_date, created_at) " +
+            "VALUES (s.key_hash, :taskId, :completionDate, :createdAt)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("keyHash") String keyHash,
+                       @Param("taskId") Long taskId,
+                       @Param("completionDate") LocalDate completionDate,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Purge keys recorded before the given time.
+     */
+    @Modifying
+    @Query("DELETE FROM CompletionRequest r WHERE r.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,46 @@
+package com.university.habittracker.repository;
+
+import com.university.habittracker.entity.RolloverCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for RolloverCheckpoint entity.
+ * Counters are incremented in place so parallel chunks never overwrite each other.
+ */
+@Repository
+public interface RolloverCheckpointRepository extends JpaRepository<RolloverCheckpoint, Long> {
+
+    /**
+     * Find the checkpoint of the rollover run for a specific date.
+     */
+    Optional<RolloverCheckpoint> findByRunDate(LocalDate runDate);
+
+    /**
+     * Record a committed chunk. Must run in the chunk's own transaction.
+     */
+    @Modifying
+    @Query("UPDATE RolloverCheckpoint c SET c.chunksCompleted = c.chunksCompleted + 1, " +
+            "c.tasksProcessed = c.tasksProcessed + :tasks, c.daysRolled = c.daysRolled + :days, " +
+            "c.updatedAt = :now WHERE c.runDate = :runDate")
+    int recordCompletedChunk(@Param("runDate") LocalDate runDate,
+                             @Param("tasks") int tasks,
+                             @Param("days") long days,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * Record a chunk that was rolled back.
+     */
+    @Modifying
+    @Query("UPDATE RolloverCheckpoint c SET c.chunksFailed = c.chunksFailed + 1, " +
+            "c.updatedAt = :now WHERE c.runDate = :runDate")
+    int recordFailedChunk(@Param("runDate") LocalDate runDate,
+                          @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,27 @@
+package com.university.habittracker.repository;
+
+import com.university.habittracker.entity.RolloverOutcome;
+import com.university.habittracker.entity.RolloverRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for RolloverRun entity.
+ * Provides the run log used for catch-up decisions and lag monitoring.
+ */
+@Repository
+public interface RolloverRunRepository extends JpaRepository<RolloverRun, Long> {
+
+    /**
+     * Find the most recent runs, newest first.
+     */
+    List<RolloverRun> findTop20ByOrderByStartedAtDesc();
+
+    /**
+     * Find the most recent run with the given outcome.
+     */
+    Optional<RolloverRun> findFirstByOutcomeOrderByStartedAtDesc(RolloverOutcome outcome);
+}
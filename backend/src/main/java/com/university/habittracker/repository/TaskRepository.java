@@ -1,7 +1,9 @@
 package com.university.habittracker.repository;
 
+import com.university.habittracker.dto.TaskResponseDTO;
 import com.university.habittracker.entity.Priority;
 import com.university.habittracker.entity.Task;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,45 +19,121 @@ import java.util.List;
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    /**
+     * Membership tests against Task.completionBitmap, evaluated on the task row itself
+     * instead of a correlated subquery on completion_history (see CompletionBitmap).
+     */
+    String NOT_COMPLETED_TODAY =
+            "function('BITGET', t.completionBitmap, datediff(day, t.startDate, :today)) = false";
+    String NOT_COMPLETED_ON_DATE =
+            "function('BITGET', t.completionBitmap, datediff(day, t.startDate, :date)) = false";
+
+    /**
+     * Constructor-expression projections for read-only listings: rows are mapped straight to
+     * TaskResponseDTO, so no Task entity is hydrated, tracked or snapshotted. The active flag
+     * is evaluated in the query for the given day, matching Task#isActive.
+     */
+    String TASK_RESPONSE_TODAY =
+            "SELECT new com.university.habittracker.dto.TaskResponseDTO(t.id, t.title, t.description, " +
+            "t.dailyTargetValue, t.accumulatedValue, t.priority, t.startDate, t.endDate, t.lastProcessedDate, " +
+            "CASE WHEN t.active = true AND :today BETWEEN t.startDate AND t.endDate THEN true ELSE false END) " +
+            "FROM Task t ";
+    String TASK_RESPONSE_ON_DATE =
+            "SELECT new com.university.habittracker.dto.TaskResponseDTO(t.id, t.title, t.description, " +
+            "t.dailyTargetValue, t.accumulatedValue, t.priority, t.startDate, t.endDate, t.lastProcessedDate, " +
+            "CASE WHEN t.active = true AND :date BETWEEN t.startDate AND t.endDate THEN true ELSE false END) " +
+            "FROM Task t ";
+
+    /**
+     * Priority ordering (HIGH to LOW, newest first) served by the (active, priority_rank, id) index.
+     * active leads so the database can read rows in index order; every query using this
+     * ordering filters on active = true, so it does not change the result.
+     */
+    String PRIORITY_ORDER = "t.active, t.priorityRank DESC, t.id DESC";
+
     /**
      * Find all tasks without filtering completed ones.
      * Used when user wants to see ALL tasks.
      */
-    @Query("SELECT t FROM Task t ORDER BY t.id DESC")
-    List<Task> findAllTasks();
+    @Query(TASK_RESPONSE_TODAY + "ORDER BY t.id DESC")
+    List<TaskResponseDTO> findAllTasks(@Param("today") LocalDate today);
+
+    /**
+     * Page of all tasks: seeks past the last id of the previous page
+     * (Long.MAX_VALUE for the first page, so it is also a primary key range scan).
+     */
+    @Query(TASK_RESPONSE_TODAY + "WHERE t.id < :afterId ORDER BY t.id DESC")
+    List<TaskResponseDTO> findAllTasksAfter(@Param("today") LocalDate today,
+                                            @Param("afterId") Long afterId, Limit limit);
 
     /**
      * Find all tasks sorted by priority in descending order (HIGH to LOW).
-     * Excludes tasks completed today.
+     * Excludes tasks completed today (checked against the completion bitmap).
+     */
+    @Query(TASK_RESPONSE_TODAY + "WHERE t.active = true AND " + NOT_COMPLETED_TODAY + " " +
+            "ORDER BY " + PRIORITY_ORDER)
+    List<TaskResponseDTO> findAllByOrderByPriorityDesc(@Param("today") LocalDate today);
+
+    /**
+     * First page of tasks sorted by priority, ordered by (rank, id) descending.
      */
-    @Query("SELECT t FROM Task t WHERE t.active = true AND NOT EXISTS " +
-            "(SELECT ch FROM CompletionHistory ch WHERE ch.task = t AND ch.completionDate = :today) " +
-            "ORDER BY (CASE WHEN t.priority = com.university.habittracker.entity.Priority.HIGH THEN 3 " +
-            "WHEN t.priority = com.university.habittracker.entity.Priority.MEDIUM THEN 2 " +
-            "ELSE 1 END) DESC, t.id DESC")
-    List<Task> findAllByOrderByPriorityDesc(@Param("today") LocalDate today);
+    @Query(TASK_RESPONSE_TODAY + "WHERE t.active = true AND " + NOT_COMPLETED_TODAY + " " +
+            "ORDER BY " + PRIORITY_ORDER)
+    List<TaskResponseDTO> findAllByOrderByPriorityDesc(@Param("today") LocalDate today, Limit limit);
+
+    /**
+     * Next page of tasks sorted by priority: seeks past (rank, id) of the previous page.
+     */
+    @Query(TASK_RESPONSE_TODAY + "WHERE t.active = true AND " + NOT_COMPLETED_TODAY + " " +
+            "AND (t.priorityRank < :afterRank OR (t.priorityRank = :afterRank AND t.id < :afterId)) " +
+            "ORDER BY " + PRIORITY_ORDER)
+    List<TaskResponseDTO> findAllByOrderByPriorityDescAfter(@Param("today") LocalDate today,
+                                                            @Param("afterRank") Integer afterRank,
+                                                            @Param("afterId") Long afterId,
+                                                            Limit limit);
 
     /**
      * Find active tasks for a specific date, sorted by priority.
      * A task is active if the date falls between startDate and endDate (inclusive).
-     * Excludes tasks completed on the specified date.
+     * Excludes tasks completed on the specified date (checked against the completion bitmap).
      */
-    @Query("SELECT t FROM Task t WHERE t.active = true AND :date >= t.startDate AND :date <= t.endDate " +
-            "AND NOT EXISTS (SELECT ch FROM CompletionHistory ch WHERE ch.task = t AND ch.completionDate = :date) " +
-            "ORDER BY (CASE WHEN t.priority = com.university.habittracker.entity.Priority.HIGH THEN 3 " +
-            "WHEN t.priority = com.university.habittracker.entity.Priority.MEDIUM THEN 2 " +
-            "ELSE 1 END) DESC")
-    List<Task> findActiveTasksByDate(@Param("date") LocalDate date);
+    @Query(TASK_RESPONSE_ON_DATE + "WHERE t.active = true AND :date >= t.startDate AND :date <= t.endDate " +
+            "AND " + NOT_COMPLETED_ON_DATE + " " +
+            "ORDER BY " + PRIORITY_ORDER)
+    List<TaskResponseDTO> findActiveTasksByDate(@Param("date") LocalDate date);
 
     /**
      * Find tasks by priority, sorted by start date.
-     * Excludes tasks completed today.
+     * Excludes tasks completed today (checked against the completion bitmap).
+     */
+    @Query(TASK_RESPONSE_TODAY + "WHERE t.active = true AND t.priority = :priority " +
+            "AND " + NOT_COMPLETED_TODAY + " " +
+            "ORDER BY t.startDate ASC, t.id ASC")
+    List<TaskResponseDTO> findByPriorityOrderByStartDateAsc(@Param("priority") Priority priority,
+                                                            @Param("today") LocalDate today);
+
+    /**
+     * First page of tasks by priority, ordered by (startDate, id) ascending.
      */
-    @Query("SELECT t FROM Task t WHERE t.active = true AND t.priority = :priority " +
-            "AND NOT EXISTS (SELECT ch FROM CompletionHistory ch WHERE ch.task = t AND ch.completionDate = :today) " +
-            "ORDER BY t.startDate ASC")
-    List<Task> findByPriorityOrderByStartDateAsc(@Param("priority") Priority priority,
-                                                 @Param("today") LocalDate today);
+    @Query(TASK_RESPONSE_TODAY + "WHERE t.active = true AND t.priority = :priority " +
+            "AND " + NOT_COMPLETED_TODAY + " " +
+            "ORDER BY t.startDate ASC, t.id ASC")
+    List<TaskResponseDTO> findByPriorityOrderByStartDateAsc(@Param("priority") Priority priority,
+                                                            @Param("today") LocalDate today,
+                                                            Limit limit);
+
+    /**
+     * Next page of tasks by priority: seeks past (startDate, id) of the previous page.
+     */
+    @Query(TASK_RESPONSE_TODAY + "WHERE t.active = true AND t.priority = :priority " +
+            "AND " + NOT_COMPLETED_TODAY + " " +
+            "AND (t.startDate > :afterDate OR (t.startDate = :afterDate AND t.id > :afterId)) " +
+            "ORDER BY t.startDate ASC, t.id ASC")
+    List<TaskResponseDTO> findByPriorityOrderByStartDateAscAfter(@Param("priority") Priority priority,
+                                                                 @Param("today") LocalDate today,
+                                                                 @Param("afterDate") LocalDate afterDate,
+                                                                 @Param("afterId") Long afterId,
+                                                                 Limit limit);
 
     /**
      * Find all tasks that need daily processing (lastProcessedDate is before today).
@@ -63,6 +141,23 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
         @Query("SELECT t FROM Task t WHERE t.active = true AND t.lastProcessedDate < :today AND t.endDate >= :today")
         List<Task> findTasksNeedingDailyProcessing(@Param("today") LocalDate today);
 
+    /**
+     * Find IDs of all tasks that need daily processing, in ascending order.
+     * Used to split a rollover run into chunks.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.active = true AND t.lastProcessedDate < :today AND t.endDate >= :today " +
+            "ORDER BY t.id")
+    List<Long> findTaskIdsNeedingDailyProcessing(@Param("today") LocalDate today);
+
+    /**
+     * Find the tasks of a rollover chunk that still need daily processing.
+     * Tasks already rolled forward by an earlier or concurrent run are skipped.
+     */
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids " +
+            "AND t.active = true AND t.lastProcessedDate < :today AND t.endDate >= :today")
+    List<Task> findTasksNeedingDailyProcessingByIds(@Param("ids") List<Long> ids,
+                                                    @Param("today") LocalDate today);
+
     /**
      * Find tasks ending between two dates.
      */
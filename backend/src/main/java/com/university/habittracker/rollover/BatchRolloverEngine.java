@@ -0,0 +1,262 @@
+package com.university.habittracker.rollover;
+
+import com.university.habittracker.config.ConcurrencyProperties;
+import com.university.habittracker.config.RolloverProperties;
+import com.university.habittracker.dto.RolloverReportDTO;
+import com.university.habittracker.entity.Task;
+import com.university.habittracker.repository.TaskRepository;
+import com.university.habittracker.strategy.RolloverStrategy;
+import com.university.habittracker.streak.StreakEngine;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Set-based daily rollover engine.
+ *
+ * Instead of querying completion history once per task per missed day, the engine:
+ * - loads every task needing processing in one query
+ * - reads the completions of each task's catch-up window from its completion bitmap
+ * - computes each task's new accumulated value in memory through the
+ *   RolloverStrategy's closed-form computeRollover, so the cost per task
+ *   depends on its completions, not on how many days it is behind
+ * - breaks current streaks whose next day has elapsed without a completion
+ * - writes the results back with JDBC batch updates
+ *
+ * Each update is guarded by, and increments, the task's optimistic lock version, so
+ * a task written concurrently (a completion, another run) is never overwritten with
+ * stale values. Such tasks are re-read and recomputed, up to concurrency.max-attempts
+ * passes; tasks that already were rolled forward are skipped by the re-read.
+ *
+ * Progress is counted in RolloverMetrics once the surrounding transaction commits, and
+ * one task in rollover.log-sample-every is logged at DEBUG.
+ */
+@Component
+public class BatchRolloverEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchRolloverEngine.class);
+
+    private static final String UPDATE_TASK_SQL =
+            "UPDATE tasks SET accumulated_value = ?, current_streak = ?, last_processed_date = ?, " +
+            "version = version + 1 WHERE id = ? AND version = ?";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final RolloverStrategy rolloverStrategy;
+    private final StreakEngine streakEngine;
+    private final RolloverMetrics metrics;
+    private final RolloverProperties properties;
+    private final ConcurrencyProperties concurrencyProperties;
+    private final EntityManager entityManager;
+
+    public BatchRolloverEngine(TaskRepository taskRepository,
+                               JdbcTemplate jdbcTemplate,
+                               EntityManager entityManager,
+                               @Qualifier("accumulativeRolloverStrategy") RolloverStrategy rolloverStrategy,
+                               StreakEngine streakEngine,
+                               RolloverMetrics metrics,
+                               RolloverProperties properties,
+                               ConcurrencyProperties concurrencyProperties) {
+        this.taskRepository = taskRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.rolloverStrategy = rolloverStrategy;
+        this.streakEngine = streakEngine;
+        this.metrics = metrics;
+        this.properties = properties;
+        this.concurrencyProperties = concurrencyProperties;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Roll every task needing processing forward to the given date,
+     * in a single transaction.
+     *
+     * @param today The date to roll tasks forward to (inclusive)
+     * @return Report with task/day counts and per-phase timings
+     */
+    @Transactional
+    public RolloverReportDTO run(LocalDate today) {
+        long startNanos = System.nanoTime();
+
+        // Load phase: one query regardless of task count or catch-up length
+        List<Task> tasks = taskRepository.findTasksNeedingDailyProcessing(today);
+
+        RolloverReportDTO report = process(tasks, today, startNanos);
+        report.setMode(RolloverMode.BATCH.name());
+
+        log.info("Daily rollover for {}: {} tasks, {} days rolled in {} ms (load {} ms, compute {} ms, write {} ms)",
+                today, report.getTasksProcessed(), report.getDaysRolled(), report.getTotalMillis(),
+                report.getLoadMillis(), report.getComputeMillis(), report.getWriteMillis());
+
+        return report;
+    }
+
+    /**
+     * Roll a chunk of tasks forward to the given date.
+     * Runs in the caller's transaction; tasks that no longer need processing are skipped.
+     *
+     * @param taskIds IDs of the tasks in the chunk
+     * @param today   The date to roll tasks forward to (inclusive)
+     * @return Report with task/day counts and per-phase timings for the chunk
+     */
+    public RolloverReportDTO runChunk(List<Long> taskIds, LocalDate today) {
+        long startNanos = System.nanoTime();
+
+        List<Task> tasks = taskRepository.findTasksNeedingDailyProcessingByIds(taskIds, today);
+
+        return process(tasks, today, startNanos);
+    }
+
+    // Helper methods
+
+    private RolloverReportDTO process(List<Task> tasks, LocalDate today, long startNanos) {
+        long loadMillis = toMillis(System.nanoTime() - startNanos);
+        long computeNanos = 0;
+        long writeNanos = 0;
+        int tasksProcessed = 0;
+        long daysRolled = 0;
+
+        for (int pass = 1; ; pass++) {
+            long passStartNanos = System.nanoTime();
+
+            // Compute phase: pure in-memory work, entities are left untouched
+            List<TaskUpdate> updates = new ArrayList<>(tasks.size());
+            for (Task task : tasks) {
+                updates.add(compute(task, today, updates.size() + 1));
+            }
+            long computedNanos = System.nanoTime();
+
+            // Write phase: batched, version-guarded updates
+            List<Long> conflicts = new ArrayList<>();
+            int[][] counts = write(updates, today);
+            int index = 0;
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    TaskUpdate update = updates.get(index++);
+                    // No row: the version moved on. Drivers may report SUCCESS_NO_INFO (-2) instead of a count
+                    if (count == 0) {
+                        conflicts.add(update.taskId());
+                    } else {
+                        tasksProcessed++;
+                        daysRolled += update.daysRolled();
+                    }
+                }
+            }
+            long writtenNanos = System.nanoTime();
+            computeNanos += computedNanos - passStartNanos;
+            writeNanos += writtenNanos - computedNanos;
+
+            if (conflicts.isEmpty()) {
+                break;
+            }
+            if (pass >= concurrencyProperties.getMaxAttempts()) {
+                log.warn("Rollover for {} left {} tasks changed concurrently after {} passes; the next run picks them up",
+                        today, conflicts.size(), pass);
+                break;
+            }
+
+            // Re-read the tasks written concurrently; those already rolled forward drop out
+            Set<Long> conflictIds = new HashSet<>(conflicts);
+            tasks.stream()
+                    .filter(task -> conflictIds.contains(task.getId()))
+                    .forEach(entityManager::detach);
+            tasks = taskRepository.findTasksNeedingDailyProcessingByIds(conflicts, today);
+        }
+        recordProgress(tasksProcessed, daysRolled);
+
+        return new RolloverReportDTO(
+                today,
+                tasksProcessed,
+                daysRolled,
+                loadMillis,
+                toMillis(computeNanos),
+                toMillis(writeNanos),
+                toMillis(System.nanoTime() - startNanos)
+        );
+    }
+
+    private TaskUpdate compute(Task task, LocalDate today, int taskNumber) {
+        // Catch-up window: the day after lastProcessedDate (or the start date) through today
+        LocalDate from = task.getLastProcessedDate().plusDays(1);
+        if (from.isBefore(task.getStartDate())) {
+            from = task.getStartDate();
+        }
+
+        // Completions come from the task's bitmap, no completion_history query
+        NavigableSet<LocalDate> completedDates = task.getCompletionDatesBetween(from, today);
+        int accumulated = rolloverStrategy.computeRollover(task, from, today, completedDates);
+        long days = from.isAfter(today) ? 0 : ChronoUnit.DAYS.between(from, today) + 1;
+
+        // Every day before today has now fully elapsed: a missed one breaks the streak
+        int currentStreak = streakEngine.currentStreak(task, today);
+
+        logSample(taskNumber, task, from, today, completedDates.size(), accumulated, currentStreak);
+        return new TaskUpdate(task.getId(), task.getVersion(), accumulated, currentStreak, days);
+    }
+
+    private int[][] write(List<TaskUpdate> updates, LocalDate today) {
+        Date processedDate = Date.valueOf(today);
+        return jdbcTemplate.batchUpdate(UPDATE_TASK_SQL, updates, BATCH_SIZE, (ps, update) -> {
+            ps.setInt(1, update.accumulatedValue());
+            ps.setInt(2, update.currentStreak());
+            ps.setDate(3, processedDate);
+            ps.setLong(4, update.taskId());
+            ps.setLong(5, update.version());
+        });
+    }
+
+    /**
+     * Log one task in every rollover.log-sample-every as logfmt key=value pairs.
+     */
+    private void logSample(int taskNumber, Task task, LocalDate from, LocalDate today,
+                           int completions, int accumulated, int currentStreak) {
+        int sampleEvery = properties.getLogSampleEvery();
+        if (sampleEvery <= 0 || taskNumber % sampleEvery != 0 || !log.isDebugEnabled()) {
+            return;
+        }
+        log.debug("rollover_sample taskId={} from={} to={} completions={} accumulated={} currentStreak={}",
+                task.getId(), from, today, completions, accumulated, currentStreak);
+    }
+
+    /**
+     * Count the written tasks and days once they are committed.
+     */
+    private void recordProgress(int tasksProcessed, long daysRolled) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            metrics.recordProgress(tasksProcessed, daysRolled);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                metrics.recordProgress(tasksProcessed, daysRolled);
+            }
+        });
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private record TaskUpdate(Long taskId, long version, int accumulatedValue, int currentStreak,
+                              long daysRolled) {
+    }
+}
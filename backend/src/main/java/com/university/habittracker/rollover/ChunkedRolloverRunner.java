@@ -0,0 +1,263 @@
+package com.university.habittracker.rollover;
+
+import com.university.habittracker.config.RolloverProperties;
+import com.university.habittracker.dto.RolloverReportDTO;
+import com.university.habittracker.entity.RolloverCheckpoint;
+import com.university.habittracker.entity.RolloverStatus;
+import com.university.habittracker.repository.RolloverCheckpointRepository;
+import com.university.habittracker.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel, chunked daily rollover.
+ *
+ * Eligible task IDs are split into fixed-size chunks which are processed on a
+ * bounded worker pool. Every chunk runs in its own transaction together with
+ * the checkpoint update, so a failing chunk only rolls back itself and an
+ * interrupted run resumes with the tasks that were not yet committed.
+ *
+ * On shutdown the pool stops taking chunks and waits for the in-flight ones to commit.
+ * This happens after the task scheduler and web server have stopped (so their runs
+ * finish first) and before lower lifecycle phases, such as closing the database.
+ */
+@Component
+public class ChunkedRolloverRunner implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ChunkedRolloverRunner.class);
+
+    /**
+     * Longest wait for in-flight chunks on shutdown.
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final TaskRepository taskRepository;
+    private final RolloverCheckpointRepository checkpointRepository;
+    private final BatchRolloverEngine batchRolloverEngine;
+    private final RolloverProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor workers;
+    private final RolloverMetrics metrics;
+
+    public ChunkedRolloverRunner(TaskRepository taskRepository,
+                                 RolloverCheckpointRepository checkpointRepository,
+                                 BatchRolloverEngine batchRolloverEngine,
+                                 RolloverProperties properties,
+                                 PlatformTransactionManager transactionManager,
+                                 RolloverMetrics metrics) {
+        this.taskRepository = taskRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.batchRolloverEngine = batchRolloverEngine;
+        this.properties = properties;
+        this.metrics = metrics;
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // Bounded queue: when workers fall behind, the submitting thread runs the chunk itself.
+        // Once shut down, a submission fails instead of being dropped and never completing.
+        int threads = properties.getWorkerThreads();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "rollover-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Rollover workers are shut down");
+                    }
+                    runnable.run();
+                });
+    }
+
+    /**
+     * Roll every task needing processing forward to the given date, chunk by chunk.
+     * Must not be called inside an existing transaction.
+     *
+     * @param today The date to roll tasks forward to (inclusive)
+     * @return Report for this invocation (a resumed run only counts the remaining tasks)
+     */
+    public RolloverReportDTO run(LocalDate today) {
+        long startNanos = System.nanoTime();
+
+        openCheckpoint(today);
+
+        List<Long> taskIds = taskRepository.findTaskIdsNeedingDailyProcessing(today);
+        List<List<Long>> chunks = partition(taskIds, properties.getChunkSize());
+        long loadedNanos = System.nanoTime();
+
+        // Chunks only run their transaction; their outcome is recorded below, in one place
+        List<Future<RolloverReportDTO>> futures = new ArrayList<>(chunks.size());
+        for (List<Long> chunk : chunks) {
+            futures.add(workers.submit(() -> processChunk(chunk, today)));
+        }
+
+        int tasksProcessed = 0;
+        long daysRolled = 0;
+        long computeMillis = 0;
+        long writeMillis = 0;
+        int chunksCompleted = 0;
+        int chunksFailed = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            RolloverReportDTO chunkReport = await(futures.get(i), chunks.get(i), today);
+            if (chunkReport == null) {
+                chunksFailed++;
+                continue;
+            }
+            chunksCompleted++;
+            tasksProcessed += chunkReport.getTasksProcessed();
+            daysRolled += chunkReport.getDaysRolled();
+            computeMillis += chunkReport.getComputeMillis();
+            writeMillis += chunkReport.getWriteMillis();
+        }
+
+        closeCheckpoint(today, chunksFailed == 0 ? RolloverStatus.COMPLETED : RolloverStatus.FAILED);
+        long finishedNanos = System.nanoTime();
+
+        RolloverReportDTO report = new RolloverReportDTO(
+                today,
+                tasksProcessed,
+                daysRolled,
+                TimeUnit.NANOSECONDS.toMillis(loadedNanos - startNanos),
+                computeMillis,
+                writeMillis,
+                TimeUnit.NANOSECONDS.toMillis(finishedNanos - startNanos)
+        );
+        report.setMode(RolloverMode.CHUNKED.name());
+        report.setChunksCompleted(chunksCompleted);
+        report.setChunksFailed(chunksFailed);
+
+        log.info("Chunked rollover for {}: {} tasks, {} days rolled, {} chunks committed, {} failed in {} ms",
+                today, tasksProcessed, daysRolled, chunksCompleted, chunksFailed, report.getTotalMillis());
+
+        return report;
+    }
+
+    @Override
+    public void start() {
+        // Workers are created with the runner
+    }
+
+    @Override
+    public void stop() {
+        shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return !workers.isShutdown();
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    /**
+     * Stop accepting chunks and wait for the running ones to commit.
+     */
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Rollover chunks still running after {} s; the next run resumes from the checkpoint",
+                        SHUTDOWN_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Helper methods
+
+    /**
+     * Roll a chunk forward and record it in the checkpoint, in one transaction.
+     * Any failure rolls back both and is propagated to await.
+     */
+    private RolloverReportDTO processChunk(List<Long> chunk, LocalDate today) {
+        return transactionTemplate.execute(status -> {
+            RolloverReportDTO report = batchRolloverEngine.runChunk(chunk, today);
+            checkpointRepository.recordCompletedChunk(today, report.getTasksProcessed(),
+                    report.getDaysRolled(), LocalDateTime.now());
+            return report;
+        });
+    }
+
+    private void openCheckpoint(LocalDate today) {
+        transactionTemplate.executeWithoutResult(status -> {
+            RolloverCheckpoint checkpoint = checkpointRepository.findByRunDate(today).orElse(null);
+            if (checkpoint == null) {
+                checkpointRepository.save(new RolloverCheckpoint(today));
+                return;
+            }
+
+            log.info("Resuming rollover for {} from checkpoint ({}): {} chunks, {} tasks already committed",
+                    today, checkpoint.getStatus(), checkpoint.getChunksCompleted(), checkpoint.getTasksProcessed());
+            checkpoint.setStatus(RolloverStatus.RUNNING);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+        });
+    }
+
+    private void closeCheckpoint(LocalDate today, RolloverStatus status) {
+        transactionTemplate.executeWithoutResult(tx ->
+                checkpointRepository.findByRunDate(today).ifPresent(checkpoint -> {
+                    checkpoint.setStatus(status);
+                    checkpoint.setUpdatedAt(LocalDateTime.now());
+                }));
+    }
+
+    /**
+     * Wait for a chunk and record its outcome in the metrics and, for a failed chunk,
+     * in the checkpoint. Returns the chunk's report, or null if it was rolled back.
+     */
+    private RolloverReportDTO await(Future<RolloverReportDTO> future, List<Long> chunk, LocalDate today) {
+        try {
+            RolloverReportDTO report = future.get();
+            metrics.recordChunk(true);
+            return report;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rollover interrupted", ex);
+        } catch (ExecutionException ex) {
+            metrics.recordChunk(false);
+            log.warn("Rollover chunk {}..{} for {} rolled back: {}",
+                    chunk.get(0), chunk.get(chunk.size() - 1), today, ex.getCause().getMessage());
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        checkpointRepository.recordFailedChunk(today, LocalDateTime.now()));
+            } catch (RuntimeException recordEx) {
+                // The run is still reported as failed; the checkpoint is closed as FAILED below
+                log.warn("Could not record failed rollover chunk for {}: {}", today, recordEx.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private static List<List<Long>> partition(List<Long> ids, int chunkSize) {
+        List<List<Long>> chunks = new ArrayList<>((ids.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,79 @@
+package com.university.habittracker.rollover;
+
+import com.university.habittracker.entity.RolloverOutcome;
+import com.university.habittracker.entity.RolloverTrigger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rollover progress metrics, exposed on /actuator/prometheus:
+ * - rollover.tasks.processed / rollover.days.rolled: counters advanced as each batch
+ *   or chunk is written, so a long chunked run shows progress while it runs
+ * - rollover.chunks: committed and failed chunks (CHUNKED mode)
+ * - rollover.run: duration of every run, by trigger, mode and outcome
+ * - rollover.running: 1 while a run is in progress
+ */
+@Component
+public class RolloverMetrics {
+
+    private final MeterRegistry registry;
+    private final Counter tasksProcessed;
+    private final Counter daysRolled;
+    private final Counter chunksCommitted;
+    private final Counter chunksFailed;
+    private final AtomicInteger running = new AtomicInteger();
+
+    public RolloverMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.tasksProcessed = Counter.builder("rollover.tasks.processed")
+                .description("Tasks rolled forward")
+                .register(registry);
+        this.daysRolled = Counter.builder("rollover.days.rolled")
+                .description("Task-days rolled forward")
+                .register(registry);
+        this.chunksCommitted = Counter.builder("rollover.chunks")
+                .description("Rollover chunks processed")
+                .tag("outcome", "committed")
+                .register(registry);
+        this.chunksFailed = Counter.builder("rollover.chunks")
+                .description("Rollover chunks processed")
+                .tag("outcome", "failed")
+                .register(registry);
+        registry.gauge("rollover.running", running);
+    }
+
+    /**
+     * Record tasks and days written by one batch or chunk.
+     */
+    public void recordProgress(int tasks, long days) {
+        tasksProcessed.increment(tasks);
+        daysRolled.increment(days);
+    }
+
+    public void recordChunk(boolean committed) {
+        (committed ? chunksCommitted : chunksFailed).increment();
+    }
+
+    public void runStarted() {
+        running.incrementAndGet();
+    }
+
+    /**
+     * Record a finished run (successful or not).
+     */
+    public void runFinished(RolloverTrigger trigger, RolloverMode mode, RolloverOutcome outcome, Duration duration) {
+        running.decrementAndGet();
+        Timer.builder("rollover.run")
+                .description("Duration of daily rollover runs")
+                .tag("trigger", trigger.name())
+                .tag("mode", mode.name())
+                .tag("outcome", outcome.name())
+                .register(registry)
+                .record(duration);
+    }
+}
@@ -0,0 +1,13 @@
+package com.university.habittracker.rollover;
+
+/**
+ * Execution modes for the daily rollover.
+ *
+ * BATCH:   all eligible tasks in a single transaction
+ * CHUNKED: eligible tasks split into chunks processed in parallel,
+ *          one transaction per chunk, with a resumable checkpoint
+ */
+public enum RolloverMode {
+    BATCH,
+    CHUNKED
+}
@@ -0,0 +1,213 @@
+package com.university.habittracker.rollover;
+
+import com.university.habittracker.config.RolloverProperties;
+import com.university.habittracker.dto.RolloverReportDTO;
+import com.university.habittracker.dto.RolloverRunDTO;
+import com.university.habittracker.entity.RolloverOutcome;
+import com.university.habittracker.entity.RolloverRun;
+import com.university.habittracker.entity.RolloverTrigger;
+import com.university.habittracker.exception.RolloverInProgressException;
+import com.university.habittracker.repository.RolloverRunRepository;
+import com.university.habittracker.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Built-in daily rollover scheduler.
+ *
+ * - Runs the rollover every day at the configured local time
+ * - Catches up at startup when the last scheduled run was missed
+ * - Refuses to start a run while another one (scheduled or manual) is in progress
+ * - Records every run with duration, task count, outcome and lag
+ */
+@Component
+public class RolloverScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RolloverScheduler.class);
+
+    private final TaskService taskService;
+    private final RolloverRunRepository rolloverRunRepository;
+    private final RolloverProperties properties;
+    private final TaskScheduler taskScheduler;
+    private final RolloverMetrics metrics;
+    private final Clock clock;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public RolloverScheduler(TaskService taskService,
+                             RolloverRunRepository rolloverRunRepository,
+                             RolloverProperties properties,
+                             TaskScheduler taskScheduler,
+                             RolloverMetrics metrics,
+                             Clock clock) {
+        this.taskService = taskService;
+        this.rolloverRunRepository = rolloverRunRepository;
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+        this.metrics = metrics;
+        this.clock = clock;
+    }
+
+    /**
+     * Register the daily trigger and, if needed, schedule the startup catch-up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        RolloverProperties.Schedule schedule = properties.getSchedule();
+        if (!schedule.isEnabled()) {
+            log.info("Built-in rollover scheduler is disabled");
+            return;
+        }
+
+        LocalTime time = schedule.getTime();
+        String cron = String.format("%d %d %d * * *", time.getSecond(), time.getMinute(), time.getHour());
+        taskScheduler.schedule(() -> runScheduled(RolloverTrigger.SCHEDULED), new CronTrigger(cron, zone()));
+        log.info("Daily rollover scheduled at {} ({})", time, zone());
+
+        if (schedule.isCatchUpOnStartup()) {
+            LocalDateTime lastSlot = lastScheduledSlot();
+            boolean missed = rolloverRunRepository
+                    .findFirstByOutcomeOrderByStartedAtDesc(RolloverOutcome.SUCCEEDED)
+                    .map(run -> run.getStartedAt().isBefore(lastSlot))
+                    .orElse(true);
+            if (missed) {
+                log.info("No successful rollover since {}, catching up", lastSlot);
+                // Run off the startup thread so a long catch-up does not delay readiness
+                taskScheduler.schedule(() -> runScheduled(RolloverTrigger.STARTUP_CATCH_UP), Instant.now());
+            }
+        }
+    }
+
+    /**
+     * Run the rollover now on behalf of a client.
+     *
+     * @param mode Rollover mode, or null for the configured default
+     * @return Report of the run
+     * @throws RolloverInProgressException if another run is still in progress
+     */
+    public RolloverReportDTO runNow(RolloverMode mode) {
+        return execute(RolloverTrigger.MANUAL, mode, null);
+    }
+
+    /**
+     * Get the most recent recorded runs, newest first.
+     */
+    public List<RolloverRunDTO> getRecentRuns() {
+        return rolloverRunRepository.findTop20ByOrderByStartedAtDesc().stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    // Helper methods
+
+    private void runScheduled(RolloverTrigger trigger) {
+        try {
+            execute(trigger, null, lastScheduledSlot());
+        } catch (RolloverInProgressException ex) {
+            log.warn("{} rollover skipped: {}", trigger, ex.getMessage());
+        } catch (RuntimeException ex) {
+            log.error("{} rollover failed", trigger, ex);
+        }
+    }
+
+    private RolloverReportDTO execute(RolloverTrigger trigger, RolloverMode mode, LocalDateTime scheduledFor) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        // One date for the whole run, in the zone the trigger fires in, so a run just after
+        // midnight there does not roll over the previous day when the JVM zone lags behind
+        LocalDate today = LocalDate.now(clock);
+        RolloverRun run = new RolloverRun(today, trigger, startedAt);
+        if (scheduledFor != null) {
+            run.setLagMillis(Duration.between(scheduledFor, startedAt).toMillis());
+        }
+
+        if (!running.compareAndSet(false, true)) {
+            run.setOutcome(RolloverOutcome.SKIPPED);
+            run.setMessage("Another rollover was in progress");
+            rolloverRunRepository.save(run);
+            throw new RolloverInProgressException("A daily rollover is already in progress");
+        }
+
+        long startNanos = System.nanoTime();
+        metrics.runStarted();
+        try {
+            RolloverReportDTO report = taskService.processDailyRollover(mode, today);
+            run.setOutcome(RolloverOutcome.SUCCEEDED);
+            run.setMode(report.getMode());
+            run.setTasksProcessed(report.getTasksProcessed());
+            run.setDaysRolled(report.getDaysRolled());
+            if (report.getChunksFailed() != null && report.getChunksFailed() > 0) {
+                run.setOutcome(RolloverOutcome.FAILED);
+                run.setMessage(report.getChunksFailed() + " chunk(s) rolled back");
+            }
+            return report;
+        } catch (RuntimeException ex) {
+            run.setOutcome(RolloverOutcome.FAILED);
+            run.setMessage(truncate(ex.getMessage()));
+            throw ex;
+        } finally {
+            Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+            run.setFinishedAt(LocalDateTime.now());
+            run.setDurationMillis(duration.toMillis());
+            rolloverRunRepository.save(run);
+            metrics.runFinished(trigger, mode != null ? mode : properties.getMode(), run.getOutcome(), duration);
+            running.set(false);
+        }
+    }
+
+    /**
+     * The most recent scheduled slot at or before now, in system-local time.
+     */
+    private LocalDateTime lastScheduledSlot() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime slot = now.with(properties.getSchedule().getTime());
+        if (slot.isAfter(now)) {
+            slot = slot.minusDays(1);
+        }
+        return slot.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    private ZoneId zone() {
+        return clock.getZone();
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= 1000) {
+            return message;
+        }
+        return message.substring(0, 1000);
+    }
+
+    private RolloverRunDTO convertToDTO(RolloverRun run) {
+        return new RolloverRunDTO(
+                run.getId(),
+                run.getRunDate(),
+                run.getTrigger(),
+                run.getMode(),
+                run.getOutcome(),
+                run.getStartedAt(),
+                run.getFinishedAt(),
+                run.getDurationMillis(),
+                run.getLagMillis(),
+                run.getTasksProcessed(),
+                run.getDaysRolled(),
+                run.getMessage()
+        );
+    }
+}
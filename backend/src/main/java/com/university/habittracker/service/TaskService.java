@@ -2,7 +2,11 @@ package com.university.habittracker.service;
 
 import com.university.habittracker.dto.*;
 import com.university.habittracker.entity.Priority;
+import com.university.habittracker.rollover.RolloverMode;
+import com.university.habittracker.transfer.TransferFormat;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -27,11 +31,21 @@ public interface TaskService {
      */
     List<TaskResponseDTO> getAllTasks();
 
+    /**
+     * Get one keyset page of all tasks
+     */
+    TaskPageDTO getAllTasks(TaskPageRequestDTO page);
+
     /**
      * Get all tasks sorted by priority (HIGH to LOW)
      */
     List<TaskResponseDTO> getAllTasksSortedByPriority();
 
+    /**
+     * Get one keyset page of tasks sorted by priority (HIGH to LOW)
+     */
+    TaskPageDTO getAllTasksSortedByPriority(TaskPageRequestDTO page);
+
     /**
      * Get active tasks for a specific date
      */
@@ -42,6 +56,11 @@ public interface TaskService {
      */
     List<TaskResponseDTO> getTasksByPriority(Priority priority);
 
+    /**
+     * Get one keyset page of tasks filtered by priority
+     */
+    TaskPageDTO getTasksByPriority(Priority priority, TaskPageRequestDTO page);
+
     /**
      * Update an existing task
      */
@@ -57,14 +76,58 @@ public interface TaskService {
      */
     void completeTask(TaskCompletionDTO completionDTO);
 
+    /**
+     * Mark a task as completed for a specific date under a client idempotency key.
+     * Repeating a request that succeeded with the same key succeeds again without
+     * recording anything; a null key behaves like completeTask(completionDTO).
+     */
+    void completeTask(TaskCompletionDTO completionDTO, String idempotencyKey);
+
+    /**
+     * Mark many tasks as completed in one transaction.
+     * Each item is validated on its own; rejected items do not affect the others.
+     */
+    BatchCompletionResultDTO completeTasks(List<TaskCompletionDTO> completions);
+
+    /**
+     * Import tasks and their completion history from a stream, in batched transactions.
+     * Invalid records are rejected one by one and listed in the report.
+     */
+    ImportReportDTO importTasks(InputStream body, TransferFormat format);
+
+    /**
+     * Write every task and its completion history to a stream as NDJSON,
+     * in the record format accepted by importTasks.
+     */
+    void exportTasks(OutputStream out);
+
     /**
      * Get completion statistics for a task
+     *
+     * @param request Optional date window, date inclusion and keyset paging of completed dates
      */
-    CompletionStatisticsDTO getCompletionStatistics(Long taskId);
+    CompletionStatisticsDTO getCompletionStatistics(Long taskId, StatisticsRequestDTO request);
 
     /**
      * Process daily rollover for all tasks
      * This should be called once per day (can be scheduled or manual)
+     *
+     * Uses the rollover mode configured in application.yml.
+     *
+     * @return Report with processed task count and per-phase timings
+     */
+    RolloverReportDTO processDailyRollover();
+
+    /**
+     * Process daily rollover for all tasks using the given mode
+     */
+    RolloverReportDTO processDailyRollover(RolloverMode mode);
+
+    /**
+     * Process daily rollover for all tasks up to the given date
+     *
+     * @param mode  Rollover mode, or null for the configured mode
+     * @param today The date to roll over to, as seen in the scheduler's time zone
      */
-    void processDailyRollover();
+    RolloverReportDTO processDailyRollover(RolloverMode mode, LocalDate today);
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.university.habittracker.service.impl;
+
+import com.university.habittracker.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in a task listing: the sort key and id of the last task on a page.
+ * The next page seeks strictly past (sortKey, id), so every page costs the same.
+ *
+ * Encoded as an opaque URL-safe token; clients only pass it back.
+ */
+record TaskCursor(long sortKey, long id) {
+
+    String encode() {
+        String raw = sortKey + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new TaskCursor(Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+}
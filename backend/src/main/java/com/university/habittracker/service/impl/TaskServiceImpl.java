@@ -1,42 +1,115 @@
 package com.university.habittracker.service.impl;
 
+import com.university.habittracker.concurrency.TaskChangeTracker;
+import com.university.habittracker.concurrency.TaskWriteExecutor;
+import com.university.habittracker.config.RolloverProperties;
 import com.university.habittracker.dto.*;
+import com.university.habittracker.entity.CompletionBitmap;
 import com.university.habittracker.entity.CompletionHistory;
+import com.university.habittracker.entity.CompletionRequest;
 import com.university.habittracker.entity.Priority;
 import com.university.habittracker.entity.Task;
+import com.university.habittracker.events.TaskEventType;
+import com.university.habittracker.exception.IdempotencyKeyReusedException;
 import com.university.habittracker.exception.InvalidDateRangeException;
+import com.university.habittracker.exception.TaskAlreadyCompletedException;
 import com.university.habittracker.exception.TaskNotFoundException;
 import com.university.habittracker.repository.CompletionHistoryRepository;
+import com.university.habittracker.repository.CompletionRequestRepository;
 import com.university.habittracker.repository.TaskRepository;
+import com.university.habittracker.rollover.BatchRolloverEngine;
+import com.university.habittracker.rollover.ChunkedRolloverRunner;
+import com.university.habittracker.rollover.RolloverMode;
 import com.university.habittracker.service.TaskService;
 import com.university.habittracker.strategy.RolloverStrategy;
+import com.university.habittracker.streak.StreakEngine;
+import com.university.habittracker.transfer.TaskExporter;
+import com.university.habittracker.transfer.TaskImporter;
+import com.university.habittracker.transfer.TransferFormat;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of TaskService interface.
  * Contains core business logic for task management and daily rollover processing.
+ *
+ * Every method is observed as "task.service" (timer tagged with class and method,
+ * and a span when a tracer is configured).
  */
 @Service
 @Transactional
+@Observed(name = "task.service")
 public class TaskServiceImpl implements TaskService {
 
+    /**
+     * Page size used when a cursor is given without a limit.
+     */
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
     private final TaskRepository taskRepository;
     private final CompletionHistoryRepository completionHistoryRepository;
+    private final CompletionRequestRepository completionRequestRepository;
     private final RolloverStrategy rolloverStrategy;
+    private final BatchRolloverEngine batchRolloverEngine;
+    private final ChunkedRolloverRunner chunkedRolloverRunner;
+    private final RolloverProperties rolloverProperties;
+    private final StreakEngine streakEngine;
+    private final TaskImporter taskImporter;
+    private final TaskExporter taskExporter;
+    private final TaskWriteExecutor taskWriteExecutor;
+    private final TaskChangeTracker taskChangeTracker;
+    private final Clock clock;
 
     public TaskServiceImpl(TaskRepository taskRepository,
                            CompletionHistoryRepository completionHistoryRepository,
-                           @Qualifier("accumulativeRolloverStrategy") RolloverStrategy rolloverStrategy) {
+                           CompletionRequestRepository completionRequestRepository,
+                           @Qualifier("accumulativeRolloverStrategy") RolloverStrategy rolloverStrategy,
+                           BatchRolloverEngine batchRolloverEngine,
+                           ChunkedRolloverRunner chunkedRolloverRunner,
+                           RolloverProperties rolloverProperties,
+                           StreakEngine streakEngine,
+                           TaskImporter taskImporter,
+                           TaskExporter taskExporter,
+                           TaskWriteExecutor taskWriteExecutor,
+                           TaskChangeTracker taskChangeTracker,
+                           Clock clock) {
         this.taskRepository = taskRepository;
         this.completionHistoryRepository = completionHistoryRepository;
+        this.completionRequestRepository = completionRequestRepository;
         this.rolloverStrategy = rolloverStrategy;
+        this.batchRolloverEngine = batchRolloverEngine;
+        this.chunkedRolloverRunner = chunkedRolloverRunner;
+        this.rolloverProperties = rolloverProperties;
+        this.streakEngine = streakEngine;
+        this.taskImporter = taskImporter;
+        this.taskExporter = taskExporter;
+        this.taskWriteExecutor = taskWriteExecutor;
+        this.taskChangeTracker = taskChangeTracker;
+        this.clock = clock;
     }
 
     @Override
@@ -52,11 +125,13 @@ public class TaskServiceImpl implements TaskService {
                 taskRequestDTO.getEndDate()
         );
 
-        // Initialize accumulated value to daily target
+        // Initialize accumulated value to daily target; rollover starts with today
         task.setAccumulatedValue(taskRequestDTO.getDailyTargetValue());
+        task.setLastProcessedDate(LocalDate.now(clock).minusDays(1));
         task.setActive(true);
 
         Task savedTask = taskRepository.save(task);
+        taskChangeTracker.changed(new TaskEventDTO(TaskEventType.CREATED, List.of(savedTask.getId())));
         return convertToResponseDTO(savedTask);
     }
 
@@ -70,191 +145,373 @@ public class TaskServiceImpl implements TaskService {
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponseDTO> getAllTasks() {
-        return taskRepository.findAllTasks().stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return taskRepository.findAllTasks(LocalDate.now(clock));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageDTO getAllTasks(TaskPageRequestDTO page) {
+        LocalDate today = LocalDate.now(clock);
+        Limit limit = limitOf(page);
+        long afterId = page.getCursor() == null ? Long.MAX_VALUE : TaskCursor.decode(page.getCursor()).id();
+        List<TaskResponseDTO> tasks = taskRepository.findAllTasksAfter(today, afterId, limit);
+        return toPage(tasks, limit, task -> new TaskCursor(task.getId(), task.getId()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponseDTO> getAllTasksSortedByPriority() {
-        LocalDate today = LocalDate.now();
-        return taskRepository.findAllByOrderByPriorityDesc(today).stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        LocalDate today = LocalDate.now(clock);
+        return taskRepository.findAllByOrderByPriorityDesc(today);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageDTO getAllTasksSortedByPriority(TaskPageRequestDTO page) {
+        LocalDate today = LocalDate.now(clock);
+        Limit limit = limitOf(page);
+        List<TaskResponseDTO> tasks;
+        if (page.getCursor() == null) {
+            tasks = taskRepository.findAllByOrderByPriorityDesc(today, limit);
+        } else {
+            TaskCursor cursor = TaskCursor.decode(page.getCursor());
+            tasks = taskRepository.findAllByOrderByPriorityDescAfter(
+                    today, (int) cursor.sortKey(), cursor.id(), limit);
+        }
+        return toPage(tasks, limit, task -> new TaskCursor(task.getPriority().getValue(), task.getId()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponseDTO> getActiveTasksByDate(LocalDate date) {
-        return taskRepository.findActiveTasksByDate(date).stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return taskRepository.findActiveTasksByDate(date);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponseDTO> getTasksByPriority(Priority priority) {
-        LocalDate today = LocalDate.now();
-        return taskRepository.findByPriorityOrderByStartDateAsc(priority, today).stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        LocalDate today = LocalDate.now(clock);
+        return taskRepository.findByPriorityOrderByStartDateAsc(priority, today);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageDTO getTasksByPriority(Priority priority, TaskPageRequestDTO page) {
+        LocalDate today = LocalDate.now(clock);
+        Limit limit = limitOf(page);
+        List<TaskResponseDTO> tasks;
+        if (page.getCursor() == null) {
+            tasks = taskRepository.findByPriorityOrderByStartDateAsc(priority, today, limit);
+        } else {
+            TaskCursor cursor = TaskCursor.decode(page.getCursor());
+            tasks = taskRepository.findByPriorityOrderByStartDateAscAfter(
+                    priority, today, LocalDate.ofEpochDay(cursor.sortKey()), cursor.id(), limit);
+        }
+        return toPage(tasks, limit, task -> new TaskCursor(task.getStartDate().toEpochDay(), task.getId()));
     }
 
     @Override
     public TaskResponseDTO updateTask(Long id, TaskRequestDTO taskRequestDTO) {
         Task task = findTaskById(id);
         validateDateRange(taskRequestDTO.getStartDate(), taskRequestDTO.getEndDate());
+        validateCompletionsInRange(task, taskRequestDTO.getStartDate(), taskRequestDTO.getEndDate());
 
         task.setTitle(taskRequestDTO.getTitle());
         task.setDescription(taskRequestDTO.getDescription());
         task.setDailyTargetValue(taskRequestDTO.getDailyTargetValue());
         task.setPriority(taskRequestDTO.getPriority());
-        task.setStartDate(taskRequestDTO.getStartDate());
         task.setEndDate(taskRequestDTO.getEndDate());
 
+        // Moving the start date re-anchors the completion bitmap; no completion falls outside it
+        if (!task.getStartDate().equals(taskRequestDTO.getStartDate())) {
+            task.setStartDate(taskRequestDTO.getStartDate());
+            streakEngine.recompute(task, LocalDate.now(clock));
+        }
+
         Task updatedTask = taskRepository.save(task);
+        taskChangeTracker.changed(new TaskEventDTO(TaskEventType.UPDATED, List.of(id)));
         return convertToResponseDTO(updatedTask);
     }
 
     @Override
     public void deleteTask(Long id) {
         Task task = findTaskById(id);
+
+        // Remove the history in one statement instead of loading it through the cascade
+        completionHistoryRepository.deleteAllByTask(task);
         taskRepository.delete(task);
+        taskChangeTracker.changed(new TaskEventDTO(TaskEventType.DELETED, List.of(id)));
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void completeTask(TaskCompletionDTO completionDTO) {
-        Task task = findTaskById(completionDTO.getTaskId());
-        LocalDate completionDate = completionDTO.getCompletionDate();
+        completeTask(completionDTO, null);
+    }
 
-        // Validate completion date is within task's date range
-        if (completionDate.isBefore(task.getStartDate()) ||
-                completionDate.isAfter(task.getEndDate())) {
-            throw new InvalidDateRangeException(
-                    "Completion date must be between task start date and end date"
-            );
-        }
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void completeTask(TaskCompletionDTO completionDTO, String idempotencyKey) {
+        // Serialized per task and retried on conflicts, so concurrent writers never lose an update
+        taskWriteExecutor.executeWithoutResult(List.of(completionDTO.getTaskId()), () -> {
+            // The key is claimed first and commits or rolls back with the completion
+            if (idempotencyKey != null && !claimIdempotencyKey(idempotencyKey, completionDTO)) {
+                return;
+            }
 
-        // Check if already completed on this date
-        if (completionHistoryRepository.existsByTaskAndCompletionDate(task, completionDate)) {
-            throw new IllegalStateException(
-                    "Task already marked as completed for date: " + completionDate
-            );
-        }
+            Task task = findTaskById(completionDTO.getTaskId());
+            LocalDate completionDate = completionDTO.getCompletionDate();
 
-        // Apply completion strategy
-        rolloverStrategy.applyCompletion(task);
+            // Validate completion date is within task's date range
+            if (completionDate.isBefore(task.getStartDate()) ||
+                    completionDate.isAfter(task.getEndDate())) {
+                throw new InvalidDateRangeException(
+                        "Completion date must be between task start date and end date"
+                );
+            }
 
-        // Mark task inactive when completed (user-requested behavior)
-        task.setActive(false);
+            // Check if already completed on this date (answered by the completion bitmap)
+            if (task.isCompletedOn(completionDate)) {
+                throw new TaskAlreadyCompletedException(completionDate);
+            }
 
-        // Create completion history record
-        CompletionHistory completion = new CompletionHistory(
-                task,
-                completionDate,
-                task.getAccumulatedValue()
-        );
+            applyCompletion(task, completionDate, LocalDate.now(clock));
 
-        completionHistoryRepository.save(completion);
+            // Insert-or-ignore on (task_id, completion_date), version-checked task update in the same transaction
+            int inserted = completionHistoryRepository.insertIfAbsent(
+                    task.getId(), completionDate, task.getAccumulatedValue(), LocalDateTime.now());
+            if (inserted == 0) {
+                // Committed by another instance since the task was read
+                throw new TaskAlreadyCompletedException(completionDate);
+            }
+            taskRepository.save(task);
+            taskChangeTracker.changed(new TaskEventDTO(TaskEventType.COMPLETED, List.of(task.getId()),
+                    completionDate, null));
+        });
+    }
 
-        // Update last processed date if completing today
-        if (completionDate.equals(LocalDate.now())) {
-            task.setLastProcessedDate(LocalDate.now());
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchCompletionResultDTO completeTasks(List<TaskCompletionDTO> completions) {
+        Set<Long> taskIds = completions.stream()
+                .map(TaskCompletionDTO::getTaskId)
+                .collect(Collectors.toSet());
+
+        // Holds every task's lock stripe; a conflict retries the whole batch
+        return taskWriteExecutor.execute(taskIds, () -> {
+            LocalDate today = LocalDate.now(clock);
+
+            // One query for every task in the batch; duplicates are answered by the completion bitmaps
+            Map<Long, Task> tasks = taskRepository.findAllById(taskIds).stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+            List<CompletionResultDTO> results = new ArrayList<>(completions.size());
+            List<CompletionHistory> history = new ArrayList<>();
+            Set<Task> completedTasks = new LinkedHashSet<>();
+
+            // Items are applied in request order, exactly as if they had been posted one by one
+            for (TaskCompletionDTO item : completions) {
+                Task task = tasks.get(item.getTaskId());
+                LocalDate completionDate = item.getCompletionDate();
+
+                CompletionStatus status;
+                String message = null;
+                if (task == null) {
+                    status = CompletionStatus.TASK_NOT_FOUND;
+                    message = "Task not found with id: " + item.getTaskId();
+                } else if (completionDate.isBefore(task.getStartDate()) || completionDate.isAfter(task.getEndDate())) {
+                    status = CompletionStatus.OUT_OF_RANGE;
+                    message = "Completion date must be between task start date and end date";
+                } else if (task.isCompletedOn(completionDate)) {
+                    status = CompletionStatus.ALREADY_COMPLETED;
+                    message = "Task already marked as completed for date: " + completionDate;
+                } else {
+                    status = CompletionStatus.COMPLETED;
+                    applyCompletion(task, completionDate, today);
+                    history.add(new CompletionHistory(task, completionDate, task.getAccumulatedValue()));
+                    completedTasks.add(task);
+                }
+                results.add(new CompletionResultDTO(item.getTaskId(), completionDate, status, message));
+            }
+
+            // History inserts and task updates are flushed as ordered JDBC batches (hibernate.jdbc.batch_size)
+            completionHistoryRepository.saveAll(history);
+            taskRepository.saveAll(completedTasks);
+            if (!completedTasks.isEmpty()) {
+                taskChangeTracker.changed(new TaskEventDTO(TaskEventType.COMPLETED,
+                        completedTasks.stream().map(Task::getId).toList()));
+            }
+
+            return new BatchCompletionResultDTO(history.size(), completions.size() - history.size(), results);
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportReportDTO importTasks(InputStream body, TransferFormat format) {
+        // The importer commits one transaction per batch instead of holding one for the whole stream
+        ImportReportDTO report = null;
+        try {
+            report = taskImporter.importTasks(body, format);
+            return report;
+        } finally {
+            // Batches committed before a failure are visible too
+            taskChangeTracker.changed(new TaskEventDTO(TaskEventType.IMPORTED, null, null,
+                    report == null ? null : report.getTasksImported()));
         }
+    }
 
-        taskRepository.save(task);
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportTasks(OutputStream out) {
+        // The exporter reads through JDBC cursors in its own read-only transaction
+        taskExporter.exportTasks(out);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public CompletionStatisticsDTO getCompletionStatistics(Long taskId) {
+    public CompletionStatisticsDTO getCompletionStatistics(Long taskId, StatisticsRequestDTO request) {
         Task task = findTaskById(taskId);
-
-        List<CompletionHistory> completions =
-                completionHistoryRepository.findByTaskOrderByCompletionDateDesc(task);
+        if (request.getFrom() != null && request.getTo() != null) {
+            validateDateRange(request.getFrom(), request.getTo());
+        }
 
         // Calculate total possible days (from start date to today or end date, whichever is earlier)
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(clock);
         LocalDate endCalculation = task.getEndDate().isBefore(today) ? task.getEndDate() : today;
         LocalDate startCalculation = task.getStartDate().isAfter(today) ? today : task.getStartDate();
 
+        // Narrow to the requested window, if any
+        boolean windowed = request.getFrom() != null || request.getTo() != null;
+        if (request.getFrom() != null && request.getFrom().isAfter(startCalculation)) {
+            startCalculation = request.getFrom();
+        }
+        if (request.getTo() != null && request.getTo().isBefore(endCalculation)) {
+            endCalculation = request.getTo();
+        }
+
         long totalPossibleDays = ChronoUnit.DAYS.between(startCalculation, endCalculation) + 1;
         if (totalPossibleDays < 0) totalPossibleDays = 0;
 
-        int totalCompletions = completions.size();
+        // Counters are maintained on the task; a window is counted on the bitmap. No rows are loaded.
+        int totalCompletions = windowed
+                ? task.countCompletionsBetween(startCalculation, endCalculation)
+                : task.getTotalCompletions();
         double completionRate = totalPossibleDays > 0
                 ? (double) totalCompletions / totalPossibleDays * 100.0
                 : 0.0;
 
-        List<LocalDate> completedDates = completions.stream()
-                .map(CompletionHistory::getCompletionDate)
-                .collect(Collectors.toList());
+        // Dates are only included when requested, one bounded page at a time, most recent first
+        List<LocalDate> completedDates = null;
+        List<DateRangeDTO> completedRanges = null;
+        LocalDate nextCursor = null;
+        if (request.isIncludeDates()) {
+            LocalDate lower = request.getFrom() != null ? request.getFrom() : task.getStartDate();
+            LocalDate upper = request.getTo() != null ? request.getTo() : task.getEndDate();
+            if (request.getCursor() != null && !request.getCursor().isAfter(upper)) {
+                upper = request.getCursor().minusDays(1);
+            }
 
-        LocalDate firstCompletion = completions.isEmpty()
-                ? null
-                : completions.get(completions.size() - 1).getCompletionDate();
-        LocalDate lastCompletion = completions.isEmpty()
-                ? null
-                : completions.get(0).getCompletionDate();
+            int limit = request.getLimit();
+            switch (request.getFormat()) {
+                case RANGES -> {
+                    completedRanges = findCompletionRanges(task, lower, upper, limit + 1);
+                    if (completedRanges.size() > limit) {
+                        completedRanges = completedRanges.subList(0, limit);
+                        nextCursor = completedRanges.get(limit - 1).getFrom();
+                    }
+                }
+                case BITMAP -> {
+                    // The whole bitmap is returned as stored; the window and paging do not apply
+                }
+                default -> {
+                    completedDates = completionHistoryRepository.findDatesByTaskAndDateRange(
+                            task, lower, upper, Limit.of(limit + 1));
+                    if (completedDates.size() > limit) {
+                        completedDates = completedDates.subList(0, limit);
+                        nextCursor = completedDates.get(limit - 1);
+                    }
+                }
+            }
+        }
 
-        return new CompletionStatisticsDTO(
+        CompletionStatisticsDTO statistics = new CompletionStatisticsDTO(
                 task.getId(),
                 task.getTitle(),
                 totalCompletions,
                 (int) totalPossibleDays,
                 Math.round(completionRate * 100.0) / 100.0,
                 completedDates,
-                firstCompletion,
-                lastCompletion
+                task.getFirstCompletion(),
+                task.getLastCompletion(),
+                // Completed tasks are skipped by rollover, so a missed day is detected here
+                streakEngine.currentStreak(task, today),
+                task.getLongestStreak(),
+                task.getStreakEndDate()
         );
+        statistics.setWindowStart(startCalculation);
+        statistics.setWindowEnd(endCalculation);
+        statistics.setNextCursor(nextCursor);
+        statistics.setCompletedRanges(completedRanges);
+        if (request.isIncludeDates() && request.getFormat() == CompletionDatesFormat.BITMAP) {
+            statistics.setCompletionBitmap(Base64.getEncoder().encodeToString(task.getCompletionBitmap()));
+            statistics.setBitmapStart(task.getStartDate());
+        }
+        return statistics;
     }
 
-    @Override
-    public void processDailyRollover() {
-        LocalDate today = LocalDate.now();
-        List<Task> tasksToProcess = taskRepository.findTasksNeedingDailyProcessing(today);
-
-        for (Task task : tasksToProcess) {
-            LocalDate lastProcessed = task.getLastProcessedDate();
-
-            // Calculate how many days passed since last processing
-            long daysSinceLastProcessed = ChronoUnit.DAYS.between(lastProcessed, today);
-
-            // Process each day individually
-            for (long i = 1; i <= daysSinceLastProcessed; i++) {
-                LocalDate processDate = lastProcessed.plusDays(i);
-
-                // Skip if before task start date
-                if (processDate.isBefore(task.getStartDate())) {
-                    continue;
-                }
-
-                // Check if task was completed on this date
-                boolean wasCompleted = completionHistoryRepository
-                        .existsByTaskAndCompletionDate(task, processDate);
+    /**
+     * Decode contiguous runs of completed days between two dates (inclusive) from the
+     * task's completion bitmap, most recent first, stopping after maxRanges runs.
+     * Runs are clipped to the requested bounds.
+     */
+    private List<DateRangeDTO> findCompletionRanges(Task task, LocalDate from, LocalDate to, int maxRanges) {
+        List<DateRangeDTO> ranges = new ArrayList<>();
+        BitSet bits = CompletionBitmap.toBitSet(task.getCompletionBitmap());
+        long lowerIndex = Math.max(0, ChronoUnit.DAYS.between(task.getStartDate(), from));
+        long upperIndex = Math.min(ChronoUnit.DAYS.between(task.getStartDate(), to), bits.length() - 1L);
+        if (lowerIndex > upperIndex) {
+            return ranges;
+        }
 
-                if (!wasCompleted) {
-                    // Not completed: add daily target to accumulated value
-                    int currentAccumulated = task.getAccumulatedValue();
-                    int dailyTarget = task.getDailyTargetValue();
-                    task.setAccumulatedValue(currentAccumulated + dailyTarget);
+        int end = bits.previousSetBit((int) upperIndex);
+        while (end >= lowerIndex && ranges.size() < maxRanges) {
+            int start = (int) Math.max(bits.previousClearBit(end) + 1L, lowerIndex);
+            ranges.add(new DateRangeDTO(task.getStartDate().plusDays(start), task.getStartDate().plusDays(end)));
+            end = start > 0 ? bits.previousSetBit(start - 1) : -1;
+        }
+        return ranges;
+    }
 
-                    System.out.println("Task " + task.getId() + " - Date: " + processDate +
-                            " - Not completed. Accumulated: " + currentAccumulated +
-                            " -> " + task.getAccumulatedValue());
-                } else {
-                    // Completed: reset to daily target for next day
-                    task.setAccumulatedValue(task.getDailyTargetValue());
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RolloverReportDTO processDailyRollover() {
+        return processDailyRollover(rolloverProperties.getMode());
+    }
 
-                    System.out.println("Task " + task.getId() + " - Date: " + processDate +
-                            " - Completed. Reset to: " + task.getDailyTargetValue());
-                }
-            }
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RolloverReportDTO processDailyRollover(RolloverMode mode) {
+        return processDailyRollover(mode, LocalDate.now(clock));
+    }
 
-            // Update last processed date to today
-            task.setLastProcessedDate(today);
-            taskRepository.save(task);
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RolloverReportDTO processDailyRollover(RolloverMode mode, LocalDate today) {
+        if (mode == null) {
+            mode = rolloverProperties.getMode();
+        }
+        // Rollover manages its own transactions: one for BATCH, one per chunk for CHUNKED
+        RolloverReportDTO report = null;
+        try {
+            report = mode == RolloverMode.CHUNKED
+                    ? chunkedRolloverRunner.run(today)
+                    : batchRolloverEngine.run(today);
+            return report;
+        } finally {
+            // Chunks committed before a failure are visible too
+            taskChangeTracker.changed(new TaskEventDTO(TaskEventType.ROLLED_OVER, null, today,
+                    report == null ? null : report.getTasksProcessed()));
         }
     }
 
@@ -271,6 +528,103 @@ public class TaskServiceImpl implements TaskService {
                     "End date must be after or equal to start date"
             );
         }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= CompletionBitmap.MAX_DAYS) {
+            throw new InvalidDateRangeException(
+                    "Task cannot span more than " + CompletionBitmap.MAX_DAYS + " days"
+            );
+        }
+    }
+
+    /**
+     * Refuse new task dates that would leave recorded completions outside the task's range:
+     * their history rows would disagree with the bitmap and counters, and be rejected on re-import.
+     */
+    private void validateCompletionsInRange(Task task, LocalDate startDate, LocalDate endDate) {
+        if (task.getFirstCompletion() != null && startDate.isAfter(task.getFirstCompletion())) {
+            throw new InvalidDateRangeException(
+                    "Start date cannot be after the first completion on " + task.getFirstCompletion()
+            );
+        }
+        if (task.getLastCompletion() != null && endDate.isBefore(task.getLastCompletion())) {
+            throw new InvalidDateRangeException(
+                    "End date cannot be before the last completion on " + task.getLastCompletion()
+            );
+        }
+    }
+
+    /**
+     * Apply a validated completion to a task: strategy, active flag, bitmap, counters and streaks.
+     * The caller records the history row.
+     */
+    private void applyCompletion(Task task, LocalDate completionDate, LocalDate today) {
+        // Apply completion strategy
+        rolloverStrategy.applyCompletion(task);
+
+        // Mark task inactive when completed (user-requested behavior)
+        task.setActive(false);
+
+        // Record the completion in the bitmap, counters and streaks; saved with the history row in this transaction
+        task.recordCompletion(completionDate);
+        streakEngine.onCompletion(task, completionDate, today);
+
+        // Update last processed date if completing today
+        if (completionDate.equals(today)) {
+            task.setLastProcessedDate(today);
+        }
+    }
+
+    /**
+     * Record an idempotency key for a completion, in the completion's transaction.
+     *
+     * @return true if the key is new and the completion should proceed, false if the
+     *         same completion already succeeded under this key
+     */
+    private boolean claimIdempotencyKey(String idempotencyKey, TaskCompletionDTO completionDTO) {
+        String keyHash = sha256Hex(idempotencyKey);
+        if (completionRequestRepository.insertIfAbsent(keyHash, completionDTO.getTaskId(),
+                completionDTO.getCompletionDate(), LocalDateTime.now()) == 1) {
+            return true;
+        }
+
+        CompletionRequest original = completionRequestRepository.findById(keyHash)
+                .orElseThrow(() -> new IllegalStateException("Idempotency key vanished during lookup"));
+        if (!original.getTaskId().equals(completionDTO.getTaskId())
+                || !original.getCompletionDate().equals(completionDTO.getCompletionDate())) {
+            throw new IdempotencyKeyReusedException();
+        }
+        return false;
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Row limit for a keyset page: one row more than the page size, so the presence of a
+     * next page is known without a count query.
+     */
+    private Limit limitOf(TaskPageRequestDTO page) {
+        int pageSize = page.getLimit() != null ? page.getLimit() : DEFAULT_PAGE_SIZE;
+        return Limit.of(pageSize + 1);
+    }
+
+    /**
+     * Trim the extra row fetched by limitOf and derive the next cursor from the last task kept.
+     */
+    private TaskPageDTO toPage(List<TaskResponseDTO> tasks, Limit limit,
+                               Function<TaskResponseDTO, TaskCursor> cursorOf) {
+        int pageSize = limit.max() - 1;
+        String nextCursor = null;
+        if (tasks.size() > pageSize) {
+            tasks = tasks.subList(0, pageSize);
+            nextCursor = cursorOf.apply(tasks.get(pageSize - 1)).encode();
+        }
+        return new TaskPageDTO(tasks, nextCursor);
     }
 
     private TaskResponseDTO convertToResponseDTO(Task task) {
@@ -284,7 +638,7 @@ public class TaskServiceImpl implements TaskService {
                 task.getStartDate(),
                 task.getEndDate(),
                 task.getLastProcessedDate(),
-                task.isActive()
+                task.isActive(LocalDate.now(clock))
         );
     }
 }
\ No newline at end of file
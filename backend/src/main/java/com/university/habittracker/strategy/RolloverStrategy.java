@@ -2,6 +2,9 @@ package com.university.habittracker.strategy;
 
 import com.university.habittracker.entity.Task;
 
+import java.time.LocalDate;
+import java.util.NavigableSet;
+
 /**
  * Strategy interface for handling daily rollover logic.
  * This pattern allows different rollover behaviors to be implemented
@@ -28,6 +31,21 @@ public interface RolloverStrategy {
      */
     void applyCompletion(Task task);
 
+    /**
+     * Compute the accumulated value after rolling a task over every day of a
+     * catch-up window, as if applyRollover/applyCompletion had been called day by day.
+     * Implementations use a closed form, so the cost depends on the number of
+     * completions rather than on the length of the window.
+     * The task itself is not modified.
+     *
+     * @param task           The task, holding the accumulated value before the window
+     * @param from           First day of the window (inclusive)
+     * @param to             Last day of the window (inclusive)
+     * @param completedDates Completion dates inside the window
+     * @return The accumulated value after the last day of the window
+     */
+    int computeRollover(Task task, LocalDate from, LocalDate to, NavigableSet<LocalDate> completedDates);
+
     /**
      * Get the strategy name for identification purposes.
      */
@@ -4,6 +4,10 @@ import com.university.habittracker.entity.Task;
 import com.university.habittracker.strategy.RolloverStrategy;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.NavigableSet;
+
 /**
  * Accumulative rollover strategy implementation.
  *
@@ -19,10 +23,10 @@ public class AccumulativeRolloverStrategy implements RolloverStrategy {
 
     @Override
     public void applyRollover(Task task) {
-        // Add daily target to accumulated value when day is missed
+        // Add daily target to accumulated value when day is missed, capped like computeRollover
         int currentAccumulated = task.getAccumulatedValue();
         int dailyTarget = task.getDailyTargetValue();
-        task.setAccumulatedValue(currentAccumulated + dailyTarget);
+        task.setAccumulatedValue(saturate((long) currentAccumulated + dailyTarget));
     }
 
     @Override
@@ -31,8 +35,32 @@ public class AccumulativeRolloverStrategy implements RolloverStrategy {
         task.setAccumulatedValue(task.getDailyTargetValue());
     }
 
+    @Override
+    public int computeRollover(Task task, LocalDate from, LocalDate to,
+                               NavigableSet<LocalDate> completedDates) {
+        if (from.isAfter(to)) {
+            return task.getAccumulatedValue();
+        }
+
+        int dailyTarget = task.getDailyTargetValue();
+
+        // Only the last completion matters: it resets the value, every later day adds the target
+        LocalDate lastCompletion = completedDates.floor(to);
+        if (lastCompletion != null && !lastCompletion.isBefore(from)) {
+            long missedDays = ChronoUnit.DAYS.between(lastCompletion, to);
+            return saturate(dailyTarget + missedDays * dailyTarget);
+        }
+
+        long missedDays = ChronoUnit.DAYS.between(from, to) + 1;
+        return saturate(task.getAccumulatedValue() + missedDays * dailyTarget);
+    }
+
     @Override
     public String getStrategyName() {
         return "ACCUMULATIVE";
     }
+
+    private static int saturate(long value) {
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
 }
\ No newline at end of file
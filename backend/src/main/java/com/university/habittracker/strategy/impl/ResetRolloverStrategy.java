@@ -4,6 +4,9 @@ import com.university.habittracker.entity.Task;
 import com.university.habittracker.strategy.RolloverStrategy;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.NavigableSet;
+
 /**
  * Reset rollover strategy implementation.
  *
@@ -30,6 +33,13 @@ public class ResetRolloverStrategy implements RolloverStrategy {
         task.setAccumulatedValue(task.getDailyTargetValue());
     }
 
+    @Override
+    public int computeRollover(Task task, LocalDate from, LocalDate to,
+                               NavigableSet<LocalDate> completedDates) {
+        // Every day, missed or completed, ends at the daily target
+        return from.isAfter(to) ? task.getAccumulatedValue() : task.getDailyTargetValue();
+    }
+
     @Override
     public String getStrategyName() {
         return "RESET";
@@ -0,0 +1,119 @@
+package com.university.habittracker.streak;
+
+import com.university.habittracker.entity.CompletionBitmap;
+import com.university.habittracker.entity.Task;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * Streak engine maintaining currentStreak, longestStreak and streakEndDate on a task.
+ *
+ * A run is a maximal sequence of consecutive completed days in the completion bitmap.
+ * - longestStreak is the longest run ever recorded
+ * - streakEndDate is the last day of the most recent run
+ * - currentStreak is the length of that run while it is still alive, i.e. while no
+ *   fully elapsed day (before today) has been missed since streakEndDate; 0 otherwise
+ *
+ * Values are updated incrementally: a completion only scans its neighbouring run,
+ * and a rollover only compares streakEndDate with the last closed day.
+ * Completed tasks are not rolled over, so readers derive liveness with currentStreak
+ * instead of trusting the stored value.
+ */
+@Component
+public class StreakEngine {
+
+    /**
+     * Update streak values after a new completion was recorded in the task's bitmap.
+     * Backfilled completions merge the runs on both sides of the completed day.
+     *
+     * @param task  The task, with the completion already recorded
+     * @param date  The newly completed date
+     * @param today The current date
+     */
+    public void onCompletion(Task task, LocalDate date, LocalDate today) {
+        byte[] bitmap = task.getCompletionBitmap();
+        long index = ChronoUnit.DAYS.between(task.getStartDate(), date);
+
+        // Length of the adjacent runs on both sides of the new completion
+        int before = 0;
+        while (CompletionBitmap.get(bitmap, index - before - 1)) {
+            before++;
+        }
+        int after = 0;
+        while (CompletionBitmap.get(bitmap, index + after + 1)) {
+            after++;
+        }
+
+        int runLength = before + 1 + after;
+        LocalDate runEnd = date.plusDays(after);
+
+        if (runLength > task.getLongestStreak()) {
+            task.setLongestStreak(runLength);
+        }
+
+        // Only the most recent run is the current streak
+        if (task.getStreakEndDate() == null || !runEnd.isBefore(task.getStreakEndDate())) {
+            task.setStreakEndDate(runEnd);
+            task.setCurrentStreak(isAlive(runEnd, today) ? runLength : 0);
+        }
+    }
+
+    /**
+     * Current streak as of a date: the stored value while the most recent run is
+     * still alive, 0 once a day after streakEndDate has fully elapsed.
+     *
+     * @param task  The task
+     * @param today The current date
+     * @return The current streak on that date
+     */
+    public int currentStreak(Task task, LocalDate today) {
+        if (task.getCurrentStreak() == 0 || task.getStreakEndDate() == null) {
+            return 0;
+        }
+        return isAlive(task.getStreakEndDate(), today) ? task.getCurrentStreak() : 0;
+    }
+
+    /**
+     * Recompute all streak values from the completion bitmap.
+     * Used when the bitmap is rebuilt or re-anchored.
+     *
+     * @param task  The task to recompute
+     * @param today The current date
+     */
+    public void recompute(Task task, LocalDate today) {
+        BitSet bits = CompletionBitmap.toBitSet(task.getCompletionBitmap());
+
+        int longest = 0;
+        int lastRunStart = -1;
+        int lastRunEnd = -1;
+        for (int start = bits.nextSetBit(0); start >= 0; start = bits.nextSetBit(lastRunEnd + 1)) {
+            int end = bits.nextClearBit(start) - 1;
+            longest = Math.max(longest, end - start + 1);
+            lastRunStart = start;
+            lastRunEnd = end;
+        }
+
+        task.setLongestStreak(longest);
+        if (lastRunStart < 0) {
+            task.setStreakEndDate(null);
+            task.setCurrentStreak(0);
+            return;
+        }
+
+        LocalDate runEnd = task.getStartDate().plusDays(lastRunEnd);
+        task.setStreakEndDate(runEnd);
+        task.setCurrentStreak(isAlive(runEnd, today) ? lastRunEnd - lastRunStart + 1 : 0);
+    }
+
+    // Helper methods
+
+    /**
+     * A run is alive while the day after it has not fully elapsed yet.
+     */
+    private static boolean isAlive(LocalDate runEnd, LocalDate today) {
+        return !runEnd.isBefore(today.minusDays(1));
+    }
+}
@@ -0,0 +1,171 @@
+package com.university.habittracker.transfer;
+
+import com.university.habittracker.dto.TaskTransferRecordDTO;
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.exception.InvalidImportException;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 CSV rows. The first row is a header naming the columns (see
+ * TransferFormat.CSV_COLUMNS); unknown columns are ignored and empty fields are null.
+ * Quoted fields may contain commas, doubled quotes and line breaks.
+ */
+class CsvRecordReader extends TransferRecordReader {
+
+    private int[] columnIndexes;
+    private long rowLine;
+
+    CsvRecordReader(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    Entry next() {
+        if (columnIndexes == null) {
+            readHeader();
+        }
+
+        try {
+            List<String> fields;
+            do {
+                fields = readRow();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.isEmpty());
+
+            return Entry.of(rowLine, toRecord(fields));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Entry.invalid(rowLine, e.getMessage());
+        }
+    }
+
+    // Helper methods
+
+    private void readHeader() {
+        List<String> header;
+        try {
+            header = readRow();
+        } catch (IllegalArgumentException e) {
+            throw new InvalidImportException("Invalid CSV header: " + e.getMessage());
+        }
+        if (header == null) {
+            throw new InvalidImportException("CSV import is empty: a header row is required");
+        }
+
+        columnIndexes = new int[TransferFormat.CSV_COLUMNS.size()];
+        for (int column = 0; column < columnIndexes.length; column++) {
+            columnIndexes[column] = header.indexOf(TransferFormat.CSV_COLUMNS.get(column));
+        }
+        if (columnIndexes[0] < 0 || columnIndexes[1] < 0) {
+            throw new InvalidImportException("CSV header must name the columns " + TransferFormat.CSV_COLUMNS);
+        }
+    }
+
+    private TaskTransferRecordDTO toRecord(List<String> fields) {
+        TaskTransferRecordDTO record = new TaskTransferRecordDTO();
+        record.setType(field(fields, 0));
+        record.setRef(field(fields, 1));
+        record.setTitle(field(fields, 2));
+        record.setDescription(field(fields, 3));
+
+        String dailyTargetValue = field(fields, 4);
+        if (dailyTargetValue != null) {
+            try {
+                record.setDailyTargetValue(Integer.valueOf(dailyTargetValue.trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid dailyTargetValue: " + dailyTargetValue);
+            }
+        }
+        String priority = field(fields, 5);
+        if (priority != null) {
+            try {
+                record.setPriority(Priority.valueOf(priority.trim()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid priority: " + priority);
+            }
+        }
+        record.setStartDate(date(field(fields, 6)));
+        record.setEndDate(date(field(fields, 7)));
+        record.setCompletionDate(date(field(fields, 8)));
+        return record;
+    }
+
+    private String field(List<String> fields, int column) {
+        int index = columnIndexes[column];
+        return index >= 0 && index < fields.size() ? fields.get(index) : null;
+    }
+
+    private static LocalDate date(String value) {
+        return value == null ? null : LocalDate.parse(value.trim());
+    }
+
+    /**
+     * Read the fields of the next row, which spans several lines when a quoted field
+     * contains line breaks. Returns null at the end of the stream and no fields for a
+     * blank line.
+     */
+    private List<String> readRow() {
+        String line = readLine();
+        if (line == null) {
+            return null;
+        }
+        rowLine = lineNumber();
+        if (line.isBlank()) {
+            return List.of();
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                // Line break inside a quoted field: continue on the next line
+                line = readLine();
+                if (line == null) {
+                    throw new IllegalArgumentException("Unterminated quoted field");
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(toField(field, wasQuoted));
+                field.setLength(0);
+                wasQuoted = false;
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(toField(field, wasQuoted));
+        return fields;
+    }
+
+    private static String toField(StringBuilder field, boolean wasQuoted) {
+        return field.length() == 0 && !wasQuoted ? null : field.toString();
+    }
+}
@@ -0,0 +1,39 @@
+package com.university.habittracker.transfer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.university.habittracker.dto.TaskTransferRecordDTO;
+
+import java.io.InputStream;
+
+/**
+ * Reads one JSON object per line. Blank lines are skipped; a malformed line is reported
+ * on its own and the following lines are still read.
+ */
+class NdjsonRecordReader extends TransferRecordReader {
+
+    private final ObjectReader recordReader;
+
+    NdjsonRecordReader(InputStream in, ObjectMapper objectMapper) {
+        super(in);
+        this.recordReader = objectMapper.readerFor(TaskTransferRecordDTO.class);
+    }
+
+    @Override
+    Entry next() {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        try {
+            return Entry.of(lineNumber(), recordReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return Entry.invalid(lineNumber(), "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+}
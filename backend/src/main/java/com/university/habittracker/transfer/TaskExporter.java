@@ -0,0 +1,139 @@
+package com.university.habittracker.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.university.habittracker.dto.TaskRequestDTO;
+import com.university.habittracker.dto.TaskTransferRecordDTO;
+import com.university.habittracker.entity.Priority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming NDJSON export of every task followed by its completion history, in the
+ * record format read back by TaskImporter (the task ID is used as the ref).
+ *
+ * Tasks and completions are read through two forward-only, read-only cursors with a fixed
+ * fetch size: tasks in primary key order, completions in (task_id, completion_date) order
+ * of the unique index. Both come out of an index already sorted, so the two streams are
+ * merged while reading and no query has to sort or materialize the whole table.
+ * Records are written to the output as they are read; memory does not depend on the
+ * number of tasks or completions.
+ */
+@Component
+public class TaskExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskExporter.class);
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String TASKS_SQL =
+            "SELECT id, title, description, daily_target_value, priority, start_date, end_date " +
+            "FROM tasks ORDER BY id";
+
+    private static final String COMPLETIONS_SQL =
+            "SELECT task_id, completion_date FROM completion_history ORDER BY task_id, completion_date";
+
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectWriter recordWriter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TaskExporter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recordWriter = objectMapper.writerFor(TaskTransferRecordDTO.class);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Write every task and completion to the stream as NDJSON.
+     * The stream is flushed but not closed.
+     */
+    public void exportTasks(OutputStream out) {
+        long startNanos = System.nanoTime();
+        BufferedOutputStream buffered = new BufferedOutputStream(out);
+
+        // One transaction, so both cursors read the same connection
+        long[] counts = readOnlyTransaction.execute(status -> jdbcTemplate.execute(
+                (ConnectionCallback<long[]>) connection -> write(connection, buffered)));
+
+        try {
+            buffered.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Exported {} tasks and {} completions in {} ms", counts[0], counts[1],
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    // Helper methods
+
+    private long[] write(Connection connection, OutputStream out) throws SQLException {
+        long tasks = 0;
+        long completions = 0;
+        try (PreparedStatement taskStatement = cursor(connection, TASKS_SQL);
+             PreparedStatement completionStatement = cursor(connection, COMPLETIONS_SQL);
+             ResultSet taskRows = taskStatement.executeQuery();
+             ResultSet completionRows = completionStatement.executeQuery()) {
+
+            boolean hasCompletion = completionRows.next();
+            while (taskRows.next()) {
+                long taskId = taskRows.getLong("id");
+                String ref = Long.toString(taskId);
+                writeRecord(out, TaskTransferRecordDTO.task(ref, new TaskRequestDTO(
+                        taskRows.getString("title"),
+                        taskRows.getString("description"),
+                        taskRows.getInt("daily_target_value"),
+                        Priority.valueOf(taskRows.getString("priority")),
+                        taskRows.getObject("start_date", LocalDate.class),
+                        taskRows.getObject("end_date", LocalDate.class))));
+                tasks++;
+
+                // Completions of tasks missing from the task cursor (created after it opened) are skipped
+                while (hasCompletion && completionRows.getLong("task_id") <= taskId) {
+                    if (completionRows.getLong("task_id") == taskId) {
+                        writeRecord(out, TaskTransferRecordDTO.completion(ref,
+                                completionRows.getObject("completion_date", LocalDate.class)));
+                        completions++;
+                    }
+                    hasCompletion = completionRows.next();
+                }
+            }
+        }
+        return new long[]{tasks, completions};
+    }
+
+    private static PreparedStatement cursor(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(FETCH_SIZE);
+        return statement;
+    }
+
+    private void writeRecord(OutputStream out, TaskTransferRecordDTO record) {
+        try {
+            out.write(recordWriter.writeValueAsBytes(record));
+            out.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.university.habittracker.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.habittracker.concurrency.TaskWriteExecutor;
+import com.university.habittracker.dto.ImportErrorDTO;
+import com.university.habittracker.dto.ImportReportDTO;
+import com.university.habittracker.dto.TaskRequestDTO;
+import com.university.habittracker.dto.TaskTransferRecordDTO;
+import com.university.habittracker.entity.CompletionBitmap;
+import com.university.habittracker.entity.CompletionHistory;
+import com.university.habittracker.entity.Task;
+import com.university.habittracker.repository.CompletionHistoryRepository;
+import com.university.habittracker.repository.TaskRepository;
+import com.university.habittracker.strategy.RolloverStrategy;
+import com.university.habittracker.streak.StreakEngine;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming bulk import of tasks and their completion history.
+ *
+ * The body is read one record at a time and written in batches of BATCH_SIZE records,
+ * each batch in its own transaction, so neither the body nor the persistence context
+ * grows with the size of the import. Only the ID, dates and imported completion days of
+ * each imported task are kept in memory until the end.
+ *
+ * Every task a batch creates or adds completions to is rebuilt in that batch's transaction,
+ * as if it had been created on its start date, rolled over daily and completed through the
+ * API on its completion dates: completion bitmap and counters, streaks, accumulatedValue
+ * (through the RolloverStrategy's closed form), lastProcessedDate and, once completed, the
+ * active flag. Each committed batch therefore leaves consistent tasks, also when a later
+ * batch fails and the import stops there.
+ *
+ * Records are validated once; the write itself goes through TaskWriteExecutor holding the
+ * lock stripes of the previously imported tasks it completes, so it is serialized with
+ * completions of those tasks and retried from scratch when a rollover writes them first.
+ * Completions already recorded concurrently are merged into the bitmap, not overwritten.
+ */
+@Component
+public class TaskImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImporter.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Rejected records listed in the report; further rejections are only counted.
+     */
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final TaskRepository taskRepository;
+    private final CompletionHistoryRepository completionHistoryRepository;
+    private final RolloverStrategy rolloverStrategy;
+    private final StreakEngine streakEngine;
+    private final TaskWriteExecutor taskWriteExecutor;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final Clock clock;
+
+    public TaskImporter(TaskRepository taskRepository,
+                        CompletionHistoryRepository completionHistoryRepository,
+                        @Qualifier("accumulativeRolloverStrategy") RolloverStrategy rolloverStrategy,
+                        StreakEngine streakEngine,
+                        TaskWriteExecutor taskWriteExecutor,
+                        Validator validator,
+                        ObjectMapper objectMapper,
+                        EntityManager entityManager,
+                        Clock clock) {
+        this.taskRepository = taskRepository;
+        this.completionHistoryRepository = completionHistoryRepository;
+        this.rolloverStrategy = rolloverStrategy;
+        this.streakEngine = streakEngine;
+        this.taskWriteExecutor = taskWriteExecutor;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.clock = clock;
+    }
+
+    /**
+     * Import every record of the stream.
+     *
+     * @param in     The import body, read once and not buffered
+     * @param format Format of the body
+     * @return Report with imported and rejected counts and the first rejected records
+     */
+    public ImportReportDTO importTasks(InputStream in, TransferFormat format) {
+        long startNanos = System.nanoTime();
+        LocalDate today = LocalDate.now(clock);
+        Import state = new Import();
+
+        try (TransferRecordReader reader = TransferRecordReader.open(format, in, objectMapper)) {
+            List<TransferRecordReader.Entry> batch = new ArrayList<>(BATCH_SIZE);
+            for (TransferRecordReader.Entry entry = reader.next(); entry != null; entry = reader.next()) {
+                batch.add(entry);
+                if (batch.size() == BATCH_SIZE) {
+                    writeBatch(batch, state, today);
+                    batch.clear();
+                }
+            }
+            writeBatch(batch, state, today);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ImportReportDTO report = state.report;
+        report.setTasksImported(state.tasksByRef.size());
+        report.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        log.info("Imported {} tasks and {} completions ({} records rejected) in {} ms",
+                report.getTasksImported(), report.getCompletionsImported(), report.getRejected(),
+                report.getDurationMillis());
+        return report;
+    }
+
+    // Helper methods
+
+    private void writeBatch(List<TransferRecordReader.Entry> entries, Import state, LocalDate today) {
+        Batch batch = new Batch();
+        for (TransferRecordReader.Entry entry : entries) {
+            String error = entry.error() != null ? entry.error() : validate(entry, state, batch);
+            if (error != null) {
+                state.reject(entry.line(), error);
+            }
+        }
+        if (batch.tasks.isEmpty() && batch.completions.isEmpty()) {
+            return;
+        }
+
+        // Tasks created by this batch stay invisible to other writers until it commits
+        Set<Long> lockedIds = batch.completions.stream()
+                .map(completion -> completion.task().id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+        BatchResult result = taskWriteExecutor.execute(lockedIds, () -> write(batch, today));
+
+        result.taskIds().forEach((task, id) -> task.id = id);
+        result.rejected().forEach(error -> state.reject(error.getLine(), error.getMessage()));
+        state.report.setCompletionsImported(state.report.getCompletionsImported() + result.completionsImported());
+        state.tasksByRef.putAll(batch.tasks);
+    }
+
+    /**
+     * Validate one record against the import so far; returns why it was rejected, or null.
+     */
+    private String validate(TransferRecordReader.Entry entry, Import state, Batch batch) {
+        TaskTransferRecordDTO record = entry.record();
+        if (record.getRef() == null || record.getRef().isBlank()) {
+            return "ref is required";
+        }
+        if (TaskTransferRecordDTO.TYPE_TASK.equals(record.getType())) {
+            return validateTask(record, state, batch);
+        }
+        if (TaskTransferRecordDTO.TYPE_COMPLETION.equals(record.getType())) {
+            return validateCompletion(entry.line(), record, state, batch);
+        }
+        return "type must be '" + TaskTransferRecordDTO.TYPE_TASK + "' or '"
+                + TaskTransferRecordDTO.TYPE_COMPLETION + "'";
+    }
+
+    private String validateTask(TaskTransferRecordDTO record, Import state, Batch batch) {
+        if (state.tasksByRef.containsKey(record.getRef()) || batch.tasks.containsKey(record.getRef())) {
+            return "Duplicate task ref: " + record.getRef();
+        }
+
+        // Same rules as POST /api/tasks
+        TaskRequestDTO request = record.toTaskRequest();
+        Set<ConstraintViolation<TaskRequestDTO>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining(", "));
+        }
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            return "End date must be after or equal to start date";
+        }
+        if (ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) >= CompletionBitmap.MAX_DAYS) {
+            return "Task cannot span more than " + CompletionBitmap.MAX_DAYS + " days";
+        }
+
+        batch.tasks.put(record.getRef(), new ImportedTask(request));
+        return null;
+    }
+
+    private String validateCompletion(long line, TaskTransferRecordDTO record, Import state, Batch batch) {
+        ImportedTask task = state.tasksByRef.get(record.getRef());
+        if (task == null) {
+            task = batch.tasks.get(record.getRef());
+        }
+        if (task == null) {
+            return "Unknown task ref: " + record.getRef();
+        }
+        LocalDate completionDate = record.getCompletionDate();
+        if (completionDate == null) {
+            return "completionDate: Completion date is required";
+        }
+        LocalDate startDate = task.request.getStartDate();
+        if (completionDate.isBefore(startDate) || completionDate.isAfter(task.request.getEndDate())) {
+            return "Completion date must be between task start date and end date";
+        }
+        int index = (int) ChronoUnit.DAYS.between(startDate, completionDate);
+        if (task.completions.get(index)) {
+            return "Task already marked as completed for date: " + completionDate;
+        }
+
+        task.completions.set(index);
+        batch.completions.add(new ImportedCompletion(line, task, completionDate));
+        return null;
+    }
+
+    /**
+     * Write a validated batch and rebuild every task it touches, in one transaction.
+     * Called once per attempt: nothing here changes the import state, so a retry starts over.
+     */
+    private BatchResult write(Batch batch, LocalDate today) {
+        Map<ImportedTask, Task> tasks = new IdentityHashMap<>();
+        Map<ImportedTask, Long> taskIds = new IdentityHashMap<>();
+        for (ImportedTask imported : batch.tasks.values()) {
+            TaskRequestDTO request = imported.request;
+            Task task = new Task(
+                    request.getTitle(),
+                    request.getDescription(),
+                    request.getDailyTargetValue(),
+                    request.getPriority(),
+                    request.getStartDate(),
+                    request.getEndDate()
+            );
+            task.setAccumulatedValue(request.getDailyTargetValue());
+            task.setLastProcessedDate(today.minusDays(1));
+            task.setActive(true);
+            taskRepository.save(task);
+            tasks.put(imported, task);
+            taskIds.put(imported, task.getId());
+        }
+
+        // Previously imported tasks are read under their lock stripes, with any completions recorded since
+        for (ImportedCompletion completion : batch.completions) {
+            if (!tasks.containsKey(completion.task())) {
+                taskRepository.findById(completion.task().id)
+                        .ifPresent(task -> tasks.put(completion.task(), task));
+            }
+        }
+
+        List<CompletionHistory> history = new ArrayList<>();
+        List<ImportErrorDTO> rejected = new ArrayList<>();
+        for (ImportedCompletion completion : batch.completions) {
+            Task task = tasks.get(completion.task());
+            if (task == null) {
+                rejected.add(new ImportErrorDTO(completion.line(), "Task was deleted during the import"));
+                continue;
+            }
+            if (task.isCompletedOn(completion.date())) {
+                // Completed through the API since the task was imported
+                rejected.add(new ImportErrorDTO(completion.line(),
+                        "Task already marked as completed for date: " + completion.date()));
+                continue;
+            }
+            task.recordCompletion(completion.date());
+            // The accumulated value right after a completion is the daily target
+            history.add(new CompletionHistory(task, completion.date(), task.getDailyTargetValue()));
+        }
+
+        for (Task task : tasks.values()) {
+            rebuild(task, today);
+        }
+
+        // Task and history inserts go out as JDBC batches (hibernate.jdbc.batch_size)
+        completionHistoryRepository.saveAll(history);
+        entityManager.flush();
+        entityManager.clear();
+        return new BatchResult(taskIds, rejected, history.size());
+    }
+
+    /**
+     * Derive the state of a task from its completion bitmap, as the daily rollover and
+     * completions through the API would have left it by today.
+     */
+    private void rebuild(Task task, LocalDate today) {
+        streakEngine.recompute(task, today);
+
+        // Rolled over every day from the start date through today (or the end date), as the
+        // daily rollover would have; for a task that has not started yet that window is empty
+        LocalDate processedThrough = task.getEndDate().isBefore(today) ? task.getEndDate() : today;
+        if (task.getTotalCompletions() > 0) {
+            // A completion resets the value and deactivates the task, so the rollover stops after it
+            rolloverStrategy.applyCompletion(task);
+            task.setActive(false);
+            NavigableSet<LocalDate> processed = task.getCompletionDatesBetween(task.getStartDate(), processedThrough);
+            task.setLastProcessedDate(processed.isEmpty() ? processedThrough : processed.last());
+        } else {
+            task.setAccumulatedValue(rolloverStrategy.computeRollover(task, task.getStartDate(),
+                    processedThrough, task.getCompletionDatesBetween(task.getStartDate(), processedThrough)));
+            task.setLastProcessedDate(processedThrough);
+        }
+    }
+
+    /**
+     * State of one import: imported tasks by the ref the file gave them, and the report.
+     */
+    private static class Import {
+
+        private final Map<String, ImportedTask> tasksByRef = new LinkedHashMap<>();
+        private final ImportReportDTO report = new ImportReportDTO();
+
+        void reject(long line, String message) {
+            report.setRejected(report.getRejected() + 1);
+            if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+                report.getErrors().add(new ImportErrorDTO(line, message));
+            }
+        }
+    }
+
+    /**
+     * Records of one batch that passed validation, in file order.
+     */
+    private static class Batch {
+
+        private final Map<String, ImportedTask> tasks = new LinkedHashMap<>();
+        private final List<ImportedCompletion> completions = new ArrayList<>();
+    }
+
+    /**
+     * An imported task: its request, its ID once its batch committed, and the days
+     * completed by the import so far (bit i = startDate + i days).
+     */
+    private static class ImportedTask {
+
+        private final TaskRequestDTO request;
+        private final BitSet completions = new BitSet();
+        private Long id;
+
+        ImportedTask(TaskRequestDTO request) {
+            this.request = request;
+        }
+    }
+
+    private record ImportedCompletion(long line, ImportedTask task, LocalDate date) {
+    }
+
+    /**
+     * Outcome of a committed batch: IDs of the tasks it created, and completions rejected
+     * because of concurrent writes to their task.
+     */
+    private record BatchResult(Map<ImportedTask, Long> taskIds, List<ImportErrorDTO> rejected,
+                               int completionsImported) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.university.habittracker.transfer;
+
+import com.university.habittracker.exception.InvalidImportException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Stream formats for task import and export.
+ * Both carry the same records (see TaskTransferRecordDTO), one per line or row.
+ */
+public enum TransferFormat {
+
+    /**
+     * Newline-delimited JSON: one JSON object per line.
+     */
+    NDJSON(TransferFormat.NDJSON_VALUE),
+
+    /**
+     * RFC 4180 CSV with a header row naming the columns.
+     */
+    CSV(TransferFormat.CSV_VALUE);
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    /**
+     * CSV columns, in the order they are written on export. On import they may come in any order.
+     */
+    public static final List<String> CSV_COLUMNS = List.of("type", "ref", "title", "description",
+            "dailyTargetValue", "priority", "startDate", "endDate", "completionDate");
+
+    private final MediaType mediaType;
+
+    TransferFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static TransferFormat of(MediaType contentType) {
+        for (TransferFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        throw new InvalidImportException("Unsupported import format: " + contentType);
+    }
+}
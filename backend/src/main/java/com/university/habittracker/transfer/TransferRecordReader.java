@@ -0,0 +1,80 @@
+package com.university.habittracker.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.habittracker.dto.TaskTransferRecordDTO;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads transfer records one at a time from an import stream, so the body is never
+ * held in memory as a whole. A record that cannot be parsed is returned with its error
+ * instead of ending the stream.
+ */
+abstract class TransferRecordReader implements Closeable {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    protected TransferRecordReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    static TransferRecordReader open(TransferFormat format, InputStream in, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new NdjsonRecordReader(in, objectMapper);
+            case CSV -> new CsvRecordReader(in);
+        };
+    }
+
+    /**
+     * The next record, or null at the end of the stream.
+     */
+    abstract Entry next();
+
+    /**
+     * The next line of the stream, or null at its end.
+     */
+    protected String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Number of the line last read, starting at 1.
+     */
+    protected long lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * A parsed record, or the reason it could not be parsed, with the line it starts on.
+     */
+    record Entry(long line, TaskTransferRecordDTO record, String error) {
+
+        static Entry of(long line, TaskTransferRecordDTO record) {
+            return new Entry(line, record, null);
+        }
+
+        static Entry invalid(long line, String error) {
+            return new Entry(line, null, error);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+-- Baseline schema, matching the JPA mappings previously generated by ddl-auto.
+
+CREATE TABLE tasks (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    title               VARCHAR(200)   NOT NULL,
+    description         VARCHAR(1000),
+    daily_target_value  INTEGER        NOT NULL,
+    accumulated_value   INTEGER        NOT NULL,
+    priority            VARCHAR(255)   NOT NULL CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+    start_date          DATE           NOT NULL,
+    end_date            DATE           NOT NULL,
+    last_processed_date DATE           NOT NULL,
+    active              BOOLEAN        NOT NULL,
+    completion_bitmap   VARBINARY(4096) DEFAULT X'' NOT NULL,
+    total_completions   INTEGER        NOT NULL,
+    first_completion    DATE,
+    last_completion     DATE,
+    current_streak      INTEGER        NOT NULL,
+    longest_streak      INTEGER        NOT NULL,
+    streak_end_date     DATE,
+    CONSTRAINT pk_tasks PRIMARY KEY (id)
+);
+
+CREATE TABLE completion_history (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    task_id         BIGINT       NOT NULL,
+    completion_date DATE         NOT NULL,
+    completed_value INTEGER      NOT NULL,
+    timestamp       TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_completion_history PRIMARY KEY (id),
+    CONSTRAINT uk_completion_history_task_date UNIQUE (task_id, completion_date),
+    CONSTRAINT fk_completion_history_task FOREIGN KEY (task_id) REFERENCES tasks (id)
+);
+
+CREATE TABLE rollover_checkpoints (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    run_date         DATE         NOT NULL,
+    status           VARCHAR(255) NOT NULL CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED')),
+    chunks_completed INTEGER      NOT NULL,
+    chunks_failed    INTEGER      NOT NULL,
+    tasks_processed  INTEGER      NOT NULL,
+    days_rolled      BIGINT       NOT NULL,
+    started_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_rollover_checkpoints PRIMARY KEY (id),
+    CONSTRAINT uk_rollover_checkpoints_run_date UNIQUE (run_date)
+);
+
+CREATE TABLE rollover_runs (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    run_date        DATE          NOT NULL,
+    trigger         VARCHAR(255)  NOT NULL CHECK (trigger IN ('SCHEDULED', 'STARTUP_CATCH_UP', 'MANUAL')),
+    outcome         VARCHAR(255)  NOT NULL CHECK (outcome IN ('SUCCEEDED', 'FAILED', 'SKIPPED')),
+    mode            VARCHAR(20),
+    started_at      TIMESTAMP(6)  NOT NULL,
+    finished_at     TIMESTAMP(6),
+    lag_millis      BIGINT,
+    duration_millis BIGINT,
+    tasks_processed INTEGER,
+    days_rolled     BIGINT,
+    message         VARCHAR(1000),
+    CONSTRAINT pk_rollover_runs PRIMARY KEY (id)
+);
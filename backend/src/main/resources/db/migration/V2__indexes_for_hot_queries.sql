@@ -0,0 +1,19 @@
+-- Indexes for the task queries on the request and rollover paths.
+-- Equality columns lead, followed by the range or ordering columns.
+
+-- findActiveTasksByDate, findAllByOrderByPriorityDesc: active = true AND :date BETWEEN start_date AND end_date
+CREATE INDEX idx_tasks_active_dates ON tasks (active, start_date, end_date);
+
+-- findTasksNeedingDailyProcessing, findTaskIdsNeedingDailyProcessing:
+-- active = true AND last_processed_date < :today AND end_date >= :today
+CREATE INDEX idx_tasks_active_last_processed ON tasks (active, last_processed_date, end_date);
+
+-- findByPriorityOrderByStartDateAsc: priority = :priority AND active = true ORDER BY start_date, id
+CREATE INDEX idx_tasks_priority_active_start ON tasks (priority, active, start_date, id);
+
+-- findTasksEndingBetween: end_date BETWEEN :startDate AND :endDate
+CREATE INDEX idx_tasks_end_date ON tasks (end_date);
+
+-- Recent and last successful rollover runs
+CREATE INDEX idx_rollover_runs_outcome_started ON rollover_runs (outcome, started_at);
+CREATE INDEX idx_rollover_runs_started ON rollover_runs (started_at);
@@ -0,0 +1,18 @@
+-- Persisted numeric priority (Priority#getValue: HIGH = 3, MEDIUM = 2, LOW = 1), so priority
+-- ordering can read an index instead of sorting on a CASE expression.
+
+ALTER TABLE tasks ADD COLUMN priority_rank INTEGER;
+
+-- Backfill existing rows from the enum column
+UPDATE tasks SET priority_rank = CASE priority
+    WHEN 'HIGH' THEN 3
+    WHEN 'MEDIUM' THEN 2
+    ELSE 1
+END;
+
+ALTER TABLE tasks ALTER COLUMN priority_rank SET NOT NULL;
+
+-- findAllByOrderByPriorityDesc and findActiveTasksByDate: active = true ORDER BY active, priority_rank DESC, id DESC.
+-- H2 only reads rows in index order when the ORDER BY starts with the leading index column,
+-- so the queries list active first; it is constant under their WHERE clause.
+CREATE INDEX idx_tasks_active_priority_rank ON tasks (active, priority_rank DESC, id DESC);
@@ -0,0 +1,14 @@
+-- Sequence-generated ids for tasks and completion_history, so Hibernate can batch inserts.
+-- Increments match the entities' allocationSize: with the pooled optimizer each sequence
+-- value is the top of a block of 50 ids handed out in memory.
+
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE completion_history_seq START WITH 1 INCREMENT BY 50;
+
+-- Continue after existing rows: the first block starts at MAX(id) + 1
+ALTER SEQUENCE tasks_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM tasks);
+ALTER SEQUENCE completion_history_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM completion_history);
+
+-- Ids are always assigned by the application now
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE completion_history ALTER COLUMN id DROP IDENTITY;
@@ -0,0 +1,4 @@
+-- Optimistic locking version for tasks (@Version on Task). JPA updates check and increment it;
+-- the rollover's JDBC updates do the same with "version = version + 1 ... WHERE version = ?".
+
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
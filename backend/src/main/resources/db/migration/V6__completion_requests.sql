@@ -0,0 +1,14 @@
+-- Idempotency keys of completion requests. A key is claimed with an insert-or-ignore MERGE in
+-- the completion's own transaction, so it exists only once that completion has committed;
+-- a retried request finding its key returns the original result instead of an error.
+-- Keys are stored as SHA-256 hex digests and purged after idempotency.retention.
+
+CREATE TABLE completion_requests (
+    key_hash        VARCHAR(64)  NOT NULL,
+    task_id         BIGINT       NOT NULL,
+    completion_date DATE         NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_completion_requests PRIMARY KEY (key_hash)
+);
+
+CREATE INDEX idx_completion_requests_created_at ON completion_requests (created_at);
@@ -0,0 +1,179 @@
+package com.university.habittracker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.habittracker.dto.ImportReportDTO;
+import com.university.habittracker.dto.TaskResponseDTO;
+import com.university.habittracker.transfer.TransferFormat;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test of the REST API: seeds tasks with completion history through the
+ * import endpoint, then drives a weighted mix of list, active-by-date, complete and
+ * statistics calls at a fixed rate over real HTTP, and prints throughput and
+ * p50/p99/p999 latency per endpoint.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=ApiLoadBenchmark
+ * Tune with -Dload.rate=100 -Dload.duration=30 -Dload.warmup=10 -Dload.tasks=1000
+ * -Dload.history-days=90 -Dload.max-in-flight=64
+ * -Dload.mix=list:20,active:30,complete:20,statistics:30
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:apiloadbenchmark",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "rollover.schedule.enabled=false",
+        "logging.level.com.university.habittracker=WARN"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApiLoadBenchmark {
+
+    private static final int RATE = Integer.getInteger("load.rate", 100);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("load.duration", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("load.warmup", 10));
+    private static final int TASKS = Integer.getInteger("load.tasks", 1_000);
+    private static final int HISTORY_DAYS = Integer.getInteger("load.history-days", 90);
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("load.max-in-flight", 64);
+    private static final String MIX = System.getProperty("load.mix", "list:20,active:30,complete:20,statistics:30");
+
+    /** The last OPEN_DAYS days are left uncompleted by the seed, for the complete calls. */
+    private static final int OPEN_DAYS = 30;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final LocalDate today = LocalDate.now();
+    private final AtomicInteger completions = new AtomicInteger();
+    private long[] taskIds;
+
+    @BeforeAll
+    void seed() throws IOException, InterruptedException {
+        HttpResponse<String> imported = client.send(HttpRequest.newBuilder(uri("/api/tasks/import"))
+                        .header("Content-Type", TransferFormat.NDJSON_VALUE)
+                        .POST(HttpRequest.BodyPublishers.ofString(seedRecords()))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, imported.statusCode(), imported.body());
+        assertEquals(TASKS, objectMapper.readValue(imported.body(), ImportReportDTO.class).getTasksImported());
+
+        HttpResponse<String> listed = client.send(HttpRequest.newBuilder(uri("/api/tasks")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        taskIds = Arrays.stream(objectMapper.readValue(listed.body(), TaskResponseDTO[].class))
+                .mapToLong(TaskResponseDTO::getId)
+                .toArray();
+    }
+
+    @Test
+    void mixedWorkloadLatency() {
+        LoadGenerator generator = new LoadGenerator();
+        Map<String, Integer> weights = parseMix();
+        generator.endpoint("list", weights.getOrDefault("list", 0), () -> get("/api/tasks"))
+                .endpoint("active", weights.getOrDefault("active", 0), () -> get("/api/tasks/active?date="
+                        + today.plusDays(ThreadLocalRandom.current().nextInt(-HISTORY_DAYS, 60))))
+                .endpoint("complete", weights.getOrDefault("complete", 0), this::nextCompletion)
+                .endpoint("statistics", weights.getOrDefault("statistics", 0), () -> get("/api/tasks/"
+                        + randomTaskId() + "/statistics?includeDates=true"));
+
+        generator.run(RATE, WARMUP, MAX_IN_FLIGHT);
+        LoadGenerator.LoadReport report = generator.run(RATE, DURATION, MAX_IN_FLIGHT);
+
+        System.out.printf("REST API load, %,d tasks with %d days of history, mix %s%n", TASKS, HISTORY_DAYS, MIX);
+        System.out.print(report.format());
+        for (LoadGenerator.EndpointStats stats : report.endpoints()) {
+            assertTrue(stats.getRequests() > 0, stats.getName() + " received no requests");
+            assertEquals(0, stats.getErrors(), stats.getName() + " returned errors");
+        }
+    }
+
+    /**
+     * NDJSON with TASKS tasks of staggered date ranges, each completed on about 60% of
+     * its days up to OPEN_DAYS ago.
+     */
+    private String seedRecords() {
+        Random random = new Random(42);
+        String[] priorities = {"LOW", "MEDIUM", "HIGH"};
+        StringBuilder records = new StringBuilder();
+        for (int task = 0; task < TASKS; task++) {
+            LocalDate start = today.minusDays(HISTORY_DAYS - task % 30);
+            records.append("{\"type\":\"task\",\"ref\":\"").append(task)
+                    .append("\",\"title\":\"Task ").append(task)
+                    .append("\",\"description\":\"Load test task ").append(task)
+                    .append("\",\"dailyTargetValue\":").append(1 + task % 5)
+                    .append(",\"priority\":\"").append(priorities[task % priorities.length])
+                    .append("\",\"startDate\":\"").append(start)
+                    .append("\",\"endDate\":\"").append(today.plusDays(30 + task % 60)).append("\"}\n");
+            for (LocalDate date = start; date.isBefore(today.minusDays(OPEN_DAYS - 1)); date = date.plusDays(1)) {
+                if (random.nextDouble() < 0.6) {
+                    records.append("{\"type\":\"completion\",\"ref\":\"").append(task)
+                            .append("\",\"completionDate\":\"").append(date).append("\"}\n");
+                }
+            }
+        }
+        return records.toString();
+    }
+
+    /**
+     * A completion for a (task, day) pair not used before: tasks first, then days back
+     * from today, so the open window allows TASKS * OPEN_DAYS completions per run.
+     */
+    private HttpRequest nextCompletion() {
+        int n = completions.getAndIncrement();
+        long taskId = taskIds[n % taskIds.length];
+        LocalDate date = today.minusDays(n / taskIds.length % OPEN_DAYS);
+        return HttpRequest.newBuilder(uri("/api/tasks/complete"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"taskId\":" + taskId + ",\"completionDate\":\"" + date + "\"}"))
+                .build();
+    }
+
+    private long randomTaskId() {
+        return taskIds[ThreadLocalRandom.current().nextInt(taskIds.length)];
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static Map<String, Integer> parseMix() {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String entry : List.of(MIX.split(","))) {
+            String[] parts = entry.trim().split(":");
+            weights.put(parts[0], Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+}
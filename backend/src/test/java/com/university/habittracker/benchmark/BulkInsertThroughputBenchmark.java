@@ -0,0 +1,164 @@
+package com.university.habittracker.benchmark;
+
+import com.university.habittracker.dto.BatchCompletionResultDTO;
+import com.university.habittracker.dto.TaskCompletionDTO;
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.entity.Task;
+import com.university.habittracker.service.TaskService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures bulk task creation and bulk completion throughput with Hibernate JDBC batching
+ * off (batch size 1: one round trip per row, as with IDENTITY ids) and on (the configured
+ * hibernate.jdbc.batch_size with sequence ids).
+ *
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulkinsertbenchmark",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "rollover.schedule.enabled=false"
+})
+class BulkInsertThroughputBenchmark {
+
+    private static final int ROWS = 5_000;
+    private static final int ROUNDS = 3;
+    private static final int UNBATCHED = 1;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void batchedInsertsOutperformRowByRowInserts() {
+        // Warm up both paths once
+        createTasks(UNBATCHED);
+        createTasks(null);
+
+        Result unbatchedCreate = measure(() -> () -> createTasks(UNBATCHED));
+        Result batchedCreate = measure(() -> () -> createTasks(null));
+        Result unbatchedComplete = measure(() -> completionOfNewTasks(UNBATCHED));
+        Result batchedComplete = measure(() -> completionOfNewTasks(null));
+
+        report("Task creation", unbatchedCreate, batchedCreate);
+        report("Batch completion", unbatchedComplete, batchedComplete);
+
+        assertTrue(batchedCreate.statements < unbatchedCreate.statements);
+        assertTrue(batchedComplete.statements < unbatchedComplete.statements);
+    }
+
+    /**
+     * Persist ROWS tasks in one transaction.
+     *
+     * @param batchSize JDBC batch size for the session, or null for the configured one
+     */
+    private List<Long> createTasks(Integer batchSize) {
+        LocalDate today = LocalDate.now();
+        return inTransaction(batchSize, () -> {
+            List<Task> tasks = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                Task task = new Task("Bulk " + i, null, 1, Priority.values()[i % 3],
+                        today.minusDays(5), today.plusDays(30));
+                entityManager.persist(task);
+                tasks.add(task);
+            }
+            entityManager.flush();
+            return tasks.stream().map(Task::getId).toList();
+        });
+    }
+
+    /**
+     * Create ROWS tasks and return the work completing each of them for yesterday
+     * through the batch completion service.
+     */
+    private Runnable completionOfNewTasks(Integer batchSize) {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        List<TaskCompletionDTO> completions = createTasks(null).stream()
+                .map(id -> new TaskCompletionDTO(id, yesterday))
+                .toList();
+
+        return () -> {
+            BatchCompletionResultDTO result = inTransaction(batchSize, () -> {
+                BatchCompletionResultDTO batch = taskService.completeTasks(completions);
+                entityManager.flush();
+                return batch;
+            });
+            assertEquals(ROWS, result.getCompleted());
+        };
+    }
+
+    private <T> T inTransaction(Integer batchSize, Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            if (batchSize != null) {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            }
+            return work.get();
+        });
+    }
+
+    /**
+     * Average time and JDBC statements of the work returned by prepare; preparation is not measured.
+     */
+    private Result measure(Supplier<Runnable> prepare) {
+        long elapsedNanos = 0;
+        long statements = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            Runnable work = prepare.get();
+            Statistics statistics = statistics();
+            statistics.clear();
+            long start = System.nanoTime();
+            work.run();
+            elapsedNanos += System.nanoTime() - start;
+            statements += statistics.getPrepareStatementCount();
+        }
+        return new Result(elapsedNanos / ROUNDS, statements / ROUNDS);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void report(String name, Result unbatched, Result batched) {
+        System.out.printf("%s, %d rows: unbatched %,.0f rows/s (%,d statements), batched %,.0f rows/s (%,d statements)%n",
+                name, ROWS, unbatched.rowsPerSecond(), unbatched.statements,
+                batched.rowsPerSecond(), batched.statements);
+    }
+
+    private record Result(long nanos, long statements) {
+
+        double rowsPerSecond() {
+            return ROWS * 1_000_000_000.0 / nanos;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.university.habittracker.benchmark;
+
+import com.university.habittracker.HabitTrackerApplication;
+import com.university.habittracker.dto.BatchCompletionResultDTO;
+import com.university.habittracker.dto.ImportReportDTO;
+import com.university.habittracker.dto.StatisticsRequestDTO;
+import com.university.habittracker.dto.TaskCompletionDTO;
+import com.university.habittracker.service.TaskService;
+import com.university.habittracker.transfer.TransferFormat;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Cold-start time and throughput of the "file" storage profile with 1M completion rows.
+ *
+ * Starts the application on an empty database file, imports 20,000 tasks with 50
+ * completions each, closes it (SHUTDOWN COMPACT), then measures the restart on the full
+ * file (schema validated, not recreated) and read/write throughput against it.
+ *
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class FileStorageBenchmark {
+
+    private static final int TASKS = 20_000;
+    private static final int COMPLETIONS_PER_TASK = 50;
+    private static final int HISTORY_DAYS = 2 * COMPLETIONS_PER_TASK;
+    private static final int BATCHES = 20;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int STATISTICS_READS = 5_000;
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void coldStartAndThroughputWithOneMillionCompletions() throws IOException {
+        Path importFile = writeImportFile();
+
+        long emptyStartNanos = System.nanoTime();
+        ConfigurableApplicationContext context = start();
+        long emptyStartMillis = millisSince(emptyStartNanos);
+
+        ImportReportDTO imported;
+        try (InputStream in = Files.newInputStream(importFile)) {
+            imported = context.getBean(TaskService.class).importTasks(in, TransferFormat.NDJSON);
+        }
+        assertEquals(TASKS * COMPLETIONS_PER_TASK, imported.getCompletionsImported());
+
+        long closeNanos = System.nanoTime();
+        context.close();
+        long closeMillis = millisSince(closeNanos);
+        long fileBytes = Files.size(dataDir.resolve("habitdb.mv.db"));
+
+        long fullStartNanos = System.nanoTime();
+        context = start();
+        long fullStartMillis = millisSince(fullStartNanos);
+        try {
+            TaskService taskService = context.getBean(TaskService.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            assertEquals(TASKS * COMPLETIONS_PER_TASK,
+                    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM completion_history", Integer.class));
+            List<Long> taskIds = jdbcTemplate.queryForList("SELECT id FROM tasks ORDER BY id", Long.class);
+
+            // Writes: batch completions on days the import left open
+            long writeNanos = System.nanoTime();
+            for (int batch = 0; batch < BATCHES; batch++) {
+                LocalDate date = LocalDate.now().minusDays(2L * batch + 1);
+                List<TaskCompletionDTO> completions = new ArrayList<>(BATCH_SIZE);
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    completions.add(new TaskCompletionDTO(taskIds.get(batch * BATCH_SIZE + i), date));
+                }
+                BatchCompletionResultDTO result = taskService.completeTasks(completions);
+                assertEquals(BATCH_SIZE, result.getCompleted());
+            }
+            long writeMillis = millisSince(writeNanos);
+
+            // Reads: per-task statistics with a page of completed dates
+            Random random = new Random(42);
+            StatisticsRequestDTO request = new StatisticsRequestDTO();
+            request.setIncludeDates(true);
+            long readNanos = System.nanoTime();
+            for (int i = 0; i < STATISTICS_READS; i++) {
+                taskService.getCompletionStatistics(taskIds.get(random.nextInt(taskIds.size())), request);
+            }
+            long readMillis = millisSince(readNanos);
+
+            // Full scan: streaming export of every row
+            long exportNanos = System.nanoTime();
+            taskService.exportTasks(OutputStream.nullOutputStream());
+            long exportMillis = millisSince(exportNanos);
+
+            System.out.printf("File storage, %,d tasks / %,d completions (%,d KB on disk after compaction)%n",
+                    TASKS, imported.getCompletionsImported(), fileBytes / 1024);
+            System.out.printf("  cold start, empty file (migrations): %,d ms%n", emptyStartMillis);
+            System.out.printf("  import: %,.0f records/s (%,d ms)%n",
+                    (TASKS + imported.getCompletionsImported()) * 1000.0 / imported.getDurationMillis(),
+                    imported.getDurationMillis());
+            System.out.printf("  shutdown with compaction: %,d ms%n", closeMillis);
+            System.out.printf("  cold start, 1M completions (validate only): %,d ms%n", fullStartMillis);
+            System.out.printf("  batch completion: %,.0f completions/s%n", BATCHES * BATCH_SIZE * 1000.0 / writeMillis);
+            System.out.printf("  statistics reads: %,.0f reads/s%n", STATISTICS_READS * 1000.0 / readMillis);
+            System.out.printf("  export: %,.0f records/s (%,d ms)%n",
+                    (TASKS + imported.getCompletionsImported() + BATCHES * BATCH_SIZE) * 1000.0 / exportMillis,
+                    exportMillis);
+        } finally {
+            context.close();
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(HabitTrackerApplication.class)
+                .profiles("file")
+                .run("--storage.data-dir=" + dataDir,
+                        "--server.port=0",
+                        "--rollover.schedule.enabled=false");
+    }
+
+    /**
+     * NDJSON import of TASKS tasks, each completed every other day of its history.
+     */
+    private Path writeImportFile() throws IOException {
+        LocalDate today = LocalDate.now();
+        LocalDate start = today.minusDays(HISTORY_DAYS);
+        Path file = dataDir.resolve("import.ndjson");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int task = 0; task < TASKS; task++) {
+                writer.write("{\"type\":\"task\",\"ref\":\"" + task + "\",\"title\":\"Task " + task
+                        + "\",\"dailyTargetValue\":1,\"priority\":\"MEDIUM\",\"startDate\":\"" + start
+                        + "\",\"endDate\":\"" + today.plusDays(30) + "\"}\n");
+                for (int day = 0; day < HISTORY_DAYS; day += 2) {
+                    writer.write("{\"type\":\"completion\",\"ref\":\"" + task + "\",\"completionDate\":\""
+                            + start.plusDays(day) + "\"}\n");
+                }
+            }
+        }
+        return file;
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
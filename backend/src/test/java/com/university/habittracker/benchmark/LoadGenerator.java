@@ -0,0 +1,159 @@
+package com.university.habittracker.benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-loop HTTP load generator: requests are scheduled at a fixed rate whether or not
+ * earlier ones have returned, and each latency is measured from the request's scheduled
+ * start. A slow server therefore shows up as queueing in the percentiles instead of
+ * silently lowering the request rate (coordinated omission).
+ */
+final class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final Random random = new Random(42);
+    private int totalWeight;
+
+    /**
+     * Add an endpoint to the mix, picked with probability weight / total weight.
+     */
+    LoadGenerator endpoint(String name, int weight, Supplier<HttpRequest> request) {
+        if (weight > 0) {
+            endpoints.add(new Endpoint(name, weight, request));
+            totalWeight += weight;
+        }
+        return this;
+    }
+
+    /**
+     * Send requests at ratePerSecond for the given duration, with at most maxInFlight
+     * outstanding, and wait for all of them to complete.
+     */
+    LoadReport run(int ratePerSecond, Duration duration, int maxInFlight) {
+        List<EndpointStats> stats = endpoints.stream().map(EndpointStats::new).toList();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long scheduledNanos = startNanos + i * periodNanos;
+            if (scheduledNanos >= endNanos) {
+                break;
+            }
+            for (long wait = scheduledNanos - System.nanoTime(); wait > 0; wait = scheduledNanos - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            EndpointStats target = stats.get(pick());
+            // Waiting here counts towards the latency, since it is measured from scheduledNanos
+            inFlight.acquireUninterruptibly();
+            client.sendAsync(target.endpoint.request().get(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        target.record(System.nanoTime() - scheduledNanos,
+                                error == null && response.statusCode() < 400);
+                        inFlight.release();
+                    });
+        }
+        inFlight.acquireUninterruptibly(maxInFlight);
+        return new LoadReport(ratePerSecond, Duration.ofNanos(System.nanoTime() - startNanos), stats);
+    }
+
+    private int pick() {
+        int ticket = random.nextInt(totalWeight);
+        for (int i = 0; i < endpoints.size(); i++) {
+            ticket -= endpoints.get(i).weight();
+            if (ticket < 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No endpoints configured");
+    }
+
+    private record Endpoint(String name, int weight, Supplier<HttpRequest> request) {
+    }
+
+    static final class EndpointStats {
+
+        private final Endpoint endpoint;
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final AtomicLong errors = new AtomicLong();
+
+        private EndpointStats(Endpoint endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        private void record(long latencyNanos, boolean success) {
+            latencies.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        String getName() {
+            return endpoint.name();
+        }
+
+        long getRequests() {
+            return latencies.getTotalCount();
+        }
+
+        long getErrors() {
+            return errors.get();
+        }
+
+        Histogram getLatencies() {
+            return latencies;
+        }
+    }
+
+    /**
+     * Throughput and latency percentiles per endpoint for one run.
+     */
+    record LoadReport(int targetRate, Duration elapsed, List<EndpointStats> endpoints) {
+
+        long totalRequests() {
+            return endpoints.stream().mapToLong(EndpointStats::getRequests).sum();
+        }
+
+        String format() {
+            double seconds = elapsed.toNanos() / 1e9;
+            StringBuilder report = new StringBuilder(String.format(
+                    "Target %,d req/s, achieved %,.0f req/s over %.1f s%n",
+                    targetRate, totalRequests() / seconds, seconds));
+            report.append(String.format("  %-12s %9s %7s %10s %9s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+            for (EndpointStats stats : endpoints) {
+                Histogram latencies = stats.getLatencies();
+                report.append(String.format("  %-12s %,9d %,7d %,10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                        stats.getName(), stats.getRequests(), stats.getErrors(), stats.getRequests() / seconds,
+                        millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(99)),
+                        millis(latencies.getValueAtPercentile(99.9)), millis(latencies.getMaxValue())));
+            }
+            return report.toString();
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+}
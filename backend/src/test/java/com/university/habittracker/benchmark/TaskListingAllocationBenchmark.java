@@ -0,0 +1,108 @@
+package com.university.habittracker.benchmark;
+
+import com.university.habittracker.dto.TaskRequestDTO;
+import com.university.habittracker.dto.TaskResponseDTO;
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.entity.Task;
+import com.university.habittracker.service.TaskService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares heap allocated per GET /api/tasks request between the former read path
+ * (managed Task entities copied into DTOs) and the constructor-expression projection.
+ *
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:listingbenchmark",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "rollover.schedule.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskListingAllocationBenchmark {
+
+    private static final int TASKS = 2_000;
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void createTasks() {
+        LocalDate today = LocalDate.now();
+        Priority[] priorities = Priority.values();
+        for (int i = 0; i < TASKS; i++) {
+            taskService.createTask(new TaskRequestDTO("Task " + i, "Benchmark task " + i, 1 + i % 5,
+                    priorities[i % priorities.length], today.minusDays(i % 30), today.plusDays(30 + i % 60)));
+        }
+    }
+
+    @Test
+    void projectionAllocatesLessThanEntityHydration() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        LocalDate today = LocalDate.now();
+
+        Supplier<List<TaskResponseDTO>> entityPath = () -> readOnly.execute(status ->
+                entityManager.createQuery("SELECT t FROM Task t ORDER BY t.id DESC", Task.class)
+                        .getResultList().stream()
+                        .map(task -> new TaskResponseDTO(task.getId(), task.getTitle(), task.getDescription(),
+                                task.getDailyTargetValue(), task.getAccumulatedValue(), task.getPriority(),
+                                task.getStartDate(), task.getEndDate(), task.getLastProcessedDate(),
+                                task.isActive(today)))
+                        .collect(Collectors.toList()));
+        Supplier<List<TaskResponseDTO>> projectionPath = taskService::getAllTasks;
+
+        assertEquals(TASKS, entityPath.get().size());
+        assertEquals(TASKS, projectionPath.get().size());
+
+        long entityBytes = allocatedPerCall(entityPath);
+        long projectionBytes = allocatedPerCall(projectionPath);
+
+        System.out.printf("Listing %d tasks: entity path %,d B/request, projection %,d B/request (%.1fx less)%n",
+                TASKS, entityBytes, projectionBytes, (double) entityBytes / projectionBytes);
+        assertTrue(projectionBytes < entityBytes);
+    }
+
+    private long allocatedPerCall(Supplier<?> call) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            call.get();
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.get();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+    }
+}
@@ -0,0 +1,87 @@
+package com.university.habittracker.concurrency;
+
+import com.university.habittracker.config.ConcurrencyProperties;
+import com.university.habittracker.exception.TaskConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Retry classification of task writes: conflicts with a concurrent writer are retried,
+ * any other integrity violation surfaces unchanged on the first attempt.
+ */
+class TaskWriteExecutorTest {
+
+    private TaskWriteExecutor executor;
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @BeforeEach
+    void createExecutor() {
+        ConcurrencyProperties properties = new ConcurrencyProperties();
+        properties.setMaxAttempts(3);
+        properties.setRetryBackoff(Duration.ofMillis(1));
+
+        // Error codes are looked up from the database product, as for the application's DataSource
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:taskwriteexecutor");
+
+        executor = new TaskWriteExecutor(new TaskLockStripes(properties), properties,
+                mock(PlatformTransactionManager.class), dataSource, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void uniqueKeyRaceIsRetried() {
+        String result = executor.execute(List.of(1L), () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw integrityViolation("23505", 23505);
+            }
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void foreignKeyViolationSurfacesUnchanged() {
+        DataIntegrityViolationException violation = integrityViolation("23506", 23506);
+
+        DataIntegrityViolationException thrown = assertThrows(DataIntegrityViolationException.class,
+                () -> executor.execute(List.of(1L), () -> {
+                    attempts.incrementAndGet();
+                    throw violation;
+                }));
+
+        assertSame(violation, thrown);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void persistentConflictIsReportedAfterMaxAttempts() {
+        assertThrows(TaskConflictException.class, () -> executor.executeWithoutResult(List.of(1L), () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("Task version changed");
+        }));
+
+        assertEquals(3, attempts.get());
+    }
+
+    private static DataIntegrityViolationException integrityViolation(String sqlState, int errorCode) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Constraint violation", sqlState, errorCode));
+    }
+}
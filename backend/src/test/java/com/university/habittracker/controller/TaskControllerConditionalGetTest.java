@@ -0,0 +1,112 @@
+package com.university.habittracker.controller;
+
+import com.university.habittracker.dto.TaskCompletionDTO;
+import com.university.habittracker.dto.TaskRequestDTO;
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETags on the task read endpoints: an unchanged resource answers If-None-Match with
+ * 304 without running a query, and a write changes the tags it affects.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:conditionalget",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "rollover.schedule.enabled=false"
+})
+@AutoConfigureMockMvc
+class TaskControllerConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final LocalDate today = LocalDate.now();
+    private Long firstId;
+    private Long secondId;
+
+    @BeforeEach
+    void createTasks() {
+        firstId = createTask("Run");
+        secondId = createTask("Read");
+    }
+
+    @Test
+    void unchangedResourcesAreNotModifiedWithoutQuerying() throws Exception {
+        String listing = etagOf("/api/tasks");
+        String active = etagOf("/api/tasks/active");
+        String statisticsTag = etagOf("/api/tasks/" + firstId + "/statistics");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, listing))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/tasks/active").header(HttpHeaders.IF_NONE_MATCH, active))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/tasks/" + firstId + "/statistics").header(HttpHeaders.IF_NONE_MATCH, statisticsTag))
+                .andExpect(status().isNotModified());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void completionChangesListingAndOnlyItsTaskTags() throws Exception {
+        String listing = etagOf("/api/tasks");
+        String first = etagOf("/api/tasks/" + firstId + "/statistics");
+        String second = etagOf("/api/tasks/" + secondId + "/statistics");
+
+        taskService.completeTask(new TaskCompletionDTO(firstId, today.minusDays(1)));
+
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, listing))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/" + firstId + "/statistics").header(HttpHeaders.IF_NONE_MATCH, first))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/" + secondId + "/statistics").header(HttpHeaders.IF_NONE_MATCH, second))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void deletedTaskIsNotServedFromCache() throws Exception {
+        String etag = etagOf("/api/tasks/" + firstId);
+
+        taskService.deleteTask(firstId);
+
+        mockMvc.perform(get("/api/tasks/" + firstId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotFound());
+    }
+
+    private Long createTask(String title) {
+        return taskService.createTask(new TaskRequestDTO(title, null, 2, Priority.LOW,
+                today.minusDays(5), today.plusDays(5))).getId();
+    }
+
+    private String etagOf(String path) throws Exception {
+        return mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,178 @@
+package com.university.habittracker.events;
+
+import com.university.habittracker.dto.TaskCompletionDTO;
+import com.university.habittracker.dto.TaskEventDTO;
+import com.university.habittracker.dto.TaskRequestDTO;
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GET /api/tasks/events over real HTTP: committed writes reach a subscriber in order,
+ * and a subscriber that stops reading is disconnected instead of holding back the rest,
+ * even with a single sender thread blocked on its connection.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:taskeventstream",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "rollover.schedule.enabled=false",
+        "events.buffer-size=8",
+        "events.sender-threads=1",
+        "events.send-timeout=PT0.5S",
+        "events.heartbeat-interval=PT1H"
+})
+class TaskEventStreamTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskEventBroadcaster taskEventBroadcaster;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<AutoCloseable> streams = new ArrayList<>();
+
+    @AfterEach
+    void closeStreams() throws Exception {
+        for (AutoCloseable stream : streams) {
+            stream.close();
+        }
+    }
+
+    @Test
+    void subscriberReceivesCommittedChangesInOrder() throws Exception {
+        HttpResponse<Stream<String>> response = client.send(eventsRequest(), HttpResponse.BodyHandlers.ofLines());
+        streams.add(response.body());
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream"));
+
+        LocalDate today = LocalDate.now();
+        Long taskId = taskService.createTask(new TaskRequestDTO("Stretch", null, 1, Priority.HIGH,
+                today.minusDays(3), today.plusDays(3))).getId();
+        taskService.completeTask(new TaskCompletionDTO(taskId, today.minusDays(1)));
+        taskService.deleteTask(taskId);
+
+        List<String> expected = List.of(
+                "event:CREATED", "data:{\"type\":\"CREATED\",\"taskIds\":[" + taskId + "]}",
+                "event:COMPLETED", "data:{\"type\":\"COMPLETED\",\"taskIds\":[" + taskId + "],\"date\":\""
+                        + today.minusDays(1) + "\"}",
+                "event:DELETED", "data:{\"type\":\"DELETED\",\"taskIds\":[" + taskId + "]}");
+        Iterator<String> lines = response.body().iterator();
+        List<String> received = CompletableFuture.supplyAsync(() -> {
+            List<String> fields = new ArrayList<>();
+            while (fields.size() < expected.size() && lines.hasNext()) {
+                String line = lines.next();
+                if (line.startsWith("event:") || line.startsWith("data:")) {
+                    fields.add(line);
+                }
+            }
+            return fields;
+        }).get(30, TimeUnit.SECONDS);
+        assertEquals(expected, received);
+    }
+
+    @Test
+    void subscriberThatStopsReadingIsDisconnected() throws Exception {
+        HttpResponse<InputStream> response = client.send(eventsRequest(), HttpResponse.BodyHandlers.ofInputStream());
+        streams.add(response.body());
+        assertTrue(taskEventBroadcaster.getSubscriberCount() > 0);
+
+        // Never read: once the socket buffers fill, the sender blocks and the subscriber's buffer overflows
+        TaskEventDTO event = new TaskEventDTO(TaskEventType.UPDATED, List.of(1L));
+        for (int i = 0; i < 5_000_000 && taskEventBroadcaster.getSubscriberCount() > 0; i++) {
+            taskEventBroadcaster.publish(event);
+        }
+        assertEquals(0, taskEventBroadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void stalledSubscriberDoesNotHoldBackOthers() throws Exception {
+        double droppedBefore = meterRegistry.counter("task.events.dropped").count();
+
+        // A raw connection with a tiny receive window that stops reading after the first comment
+        Socket stalled = new Socket();
+        streams.add(stalled);
+        stalled.setReceiveBufferSize(1024);
+        stalled.connect(new InetSocketAddress("localhost", port));
+        OutputStream request = stalled.getOutputStream();
+        request.write(("GET /api/tasks/events HTTP/1.1\r\nHost: localhost\r\n"
+                + "Accept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        request.flush();
+        BufferedReader stalledReader = new BufferedReader(
+                new InputStreamReader(stalled.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = stalledReader.readLine()) != null && !line.startsWith(":connected")) {
+            // Skip the response headers
+        }
+
+        HttpResponse<Stream<String>> healthy = client.send(eventsRequest(), HttpResponse.BodyHandlers.ofLines());
+        streams.add(healthy.body());
+        Iterator<String> lines = healthy.body().iterator();
+        CompletableFuture<List<String>> received = CompletableFuture.supplyAsync(() -> {
+            List<String> events = new ArrayList<>();
+            while (!events.contains("event:DELETED") && lines.hasNext()) {
+                String next = lines.next();
+                if (next.startsWith("event:")) {
+                    events.add(next);
+                }
+            }
+            return events;
+        });
+
+        // Each event is large enough that a few of them fill the stalled connection's socket buffers
+        TaskEventDTO large = new TaskEventDTO(TaskEventType.UPDATED, LongStream.range(0, 200_000).boxed().toList());
+        int published = 15;
+        for (int i = 0; i < published; i++) {
+            taskEventBroadcaster.publish(large);
+            Thread.sleep(300);
+        }
+        taskEventBroadcaster.publish(new TaskEventDTO(TaskEventType.DELETED, List.of(1L)));
+
+        List<String> events = received.get(30, TimeUnit.SECONDS);
+        assertEquals(published + 1, events.size());
+        assertEquals("event:DELETED", events.get(published));
+        assertTrue(meterRegistry.counter("task.events.dropped").count() > droppedBefore);
+    }
+
+    private HttpRequest eventsRequest() {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/events"))
+                .header("Accept", "text/event-stream")
+                .build();
+    }
+}
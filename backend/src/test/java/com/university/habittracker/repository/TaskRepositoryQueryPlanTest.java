@@ -0,0 +1,235 @@
+package com.university.habittracker.repository;
+
+import com.university.habittracker.entity.Priority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs EXPLAIN on the SQL of every @Query method declared on TaskRepository and fails
+ * when the plan reads the tasks table with a table scan instead of an index, or sorts
+ * rows that should come out of an index in order.
+ *
+ * Statements are captured at the JDBC level together with the values Hibernate binds, and
+ * EXPLAIN binds the same values, so the plans are those of the statements actually sent to
+ * H2. The table is populated and analyzed first so the optimizer chooses plans from
+ * realistic statistics.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryplans",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "rollover.schedule.enabled=false"
+})
+class TaskRepositoryQueryPlanTest {
+
+    private static final int TASKS = 2_000;
+
+    /**
+     * Queries with no predicate that return every task by design; a scan is the right plan.
+     */
+    private static final Set<String> FULL_LISTINGS = Set.of("findAllTasks");
+
+    /**
+     * Queries whose ORDER BY must be served by an index rather than a sort.
+     */
+    private static final Set<String> SORTED_BY_INDEX = Set.of(
+            "findAllByOrderByPriorityDesc", "findAllByOrderByPriorityDescAfter", "findActiveTasksByDate");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void populate() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Integer.class) >= TASKS) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            LocalDate start = today.minusDays(i % 400);
+            Priority priority = Priority.values()[i % 3];
+            rows.add(new Object[]{"Plan " + i, 1 + i % 5, priority.name(), priority.getValue(),
+                    start, start.plusDays(30 + i % 300), start.plusDays(i % 20), i % 7 != 0});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (id, title, daily_target_value, accumulated_value, priority, priority_rank, " +
+                "start_date, end_date, last_processed_date, active, total_completions, current_streak, longest_streak) " +
+                "VALUES (NEXT VALUE FOR tasks_seq, ?, ?, 0, ?, ?, ?, ?, ?, ?, 0, 0, 0)", rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void taskRepositoryQueriesUseIndexes() throws Exception {
+        List<Method> queries = Arrays.stream(TaskRepository.class.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(Query.class))
+                .filter(method -> !method.isAnnotationPresent(Modifying.class))
+                .filter(method -> !FULL_LISTINGS.contains(method.getName()))
+                .sorted(Comparator.comparing(Method::toGenericString))
+                .toList();
+        assertFalse(queries.isEmpty());
+
+        List<String> failures = new ArrayList<>();
+        for (Method query : queries) {
+            CapturingDataSource.STATEMENTS.clear();
+            query.invoke(taskRepository, sampleArguments(query));
+            List<CapturedStatement> statements = List.copyOf(CapturingDataSource.STATEMENTS);
+            assertFalse(statements.isEmpty(), "No SQL captured for " + query.getName());
+
+            for (CapturedStatement statement : statements) {
+                String plan = explain(statement.sql(), statement.parameters());
+                if (plan.contains("PUBLIC.TASKS.tableScan")) {
+                    failures.add(query.getName() + "(" + query.getParameterCount() + " args):\n" + plan);
+                } else if (SORTED_BY_INDEX.contains(query.getName()) && !plan.contains("index sorted")) {
+                    failures.add(query.getName() + "(" + query.getParameterCount() + " args), not index sorted:\n" + plan);
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            fail("Queries with an unindexed plan on tasks:\n\n" + String.join("\n\n", failures));
+        }
+    }
+
+    @Test
+    void explainDetectsTableScans() {
+        assertTrue(explain("SELECT * FROM tasks WHERE title = ?", Map.of(1, "Plan 1"))
+                .contains("PUBLIC.TASKS.tableScan"));
+    }
+
+    private String explain(String sql, Map<Integer, Object> parameters) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatement statement) -> {
+            int count = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= count; i++) {
+                if (!parameters.containsKey(i)) {
+                    fail("No bound value captured for parameter " + i + " of " + sql);
+                }
+                statement.setObject(i, parameters.get(i));
+            }
+            try (ResultSet result = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (result.next()) {
+                    plan.append(result.getString(1));
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private Object[] sampleArguments(Method method) {
+        LocalDate today = LocalDate.now();
+        return Arrays.stream(method.getParameterTypes())
+                .map(type -> {
+                    if (type == LocalDate.class) return today;
+                    if (type == Long.class) return 1_000L;
+                    if (type == Integer.class) return 2;
+                    if (type == Priority.class) return Priority.HIGH;
+                    if (type == List.class) return List.of(1L, 2L, 3L);
+                    if (type == Limit.class) return Limit.of(20);
+                    throw new IllegalArgumentException("No sample value for " + type + " in " + method.getName());
+                })
+                .toArray();
+    }
+
+    /**
+     * A prepared statement as executed: its SQL and the value bound to each parameter index.
+     */
+    record CapturedStatement(String sql, Map<Integer, Object> parameters) {
+    }
+
+    @TestConfiguration
+    static class CapturingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? CapturingDataSource.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Wraps the application's DataSource so every prepared statement records its SQL and
+     * the values bound through its setters (setNull records null).
+     */
+    static final class CapturingDataSource {
+
+        static final List<CapturedStatement> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        static DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, result, args) ->
+                    result instanceof Connection connection ? wrapConnection(connection) : result);
+        }
+
+        private static Connection wrapConnection(Connection connection) {
+            return proxy(Connection.class, connection, (method, result, args) -> {
+                if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                    CapturedStatement captured = new CapturedStatement((String) args[0], new TreeMap<>());
+                    STATEMENTS.add(captured);
+                    return wrapStatement(statement, captured);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement wrapStatement(PreparedStatement statement, CapturedStatement captured) {
+            return proxy(PreparedStatement.class, statement, (method, result, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    captured.parameters().put(index, name.equals("setNull") ? null : args[1]);
+                } else if (name.equals("clearParameters")) {
+                    captured.parameters().clear();
+                }
+                return result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return mapper.map(method, method.invoke(target, args), args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+
+        @FunctionalInterface
+        private interface ResultMapper {
+            Object map(Method method, Object result, Object[] args);
+        }
+    }
+}
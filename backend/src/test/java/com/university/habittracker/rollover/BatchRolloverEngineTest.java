@@ -0,0 +1,188 @@
+package com.university.habittracker.rollover;
+
+import com.university.habittracker.dto.RolloverReportDTO;
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.entity.Task;
+import com.university.habittracker.repository.TaskRepository;
+import com.university.habittracker.streak.StreakEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Set-based rollover against the per-day baseline it replaced: the same accumulated
+ * value, current streak and lastProcessedDate after a multi-day catch-up, tasks written
+ * concurrently during a pass are recomputed from their new state, and days before a
+ * task's start date are never rolled.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batchrollover",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "rollover.schedule.enabled=false"
+})
+class BatchRolloverEngineTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 20);
+
+    @Autowired
+    private BatchRolloverEngine batchRolloverEngine;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private StreakEngine streakEngine;
+
+    @BeforeEach
+    void clearTasks() {
+        jdbcTemplate.update("DELETE FROM completion_history");
+        jdbcTemplate.update("DELETE FROM tasks");
+    }
+
+    @Test
+    void catchUpMatchesDayByDayBaseline() {
+        List<Task> tasks = List.of(
+                // Gaps between completions inside the missed days
+                createTask(2, 5, TODAY.minusDays(20), TODAY.minusDays(7),
+                        TODAY.minusDays(6), TODAY.minusDays(4), TODAY.minusDays(3)),
+                // Completed on the last day of the window: the streak reaches today
+                createTask(3, 3, TODAY.minusDays(20), TODAY.minusDays(5),
+                        TODAY.minusDays(2), TODAY.minusDays(1), TODAY),
+                // A run ending yesterday is still current
+                createTask(1, 1, TODAY.minusDays(20), TODAY.minusDays(5),
+                        TODAY.minusDays(3), TODAY.minusDays(2), TODAY.minusDays(1)),
+                // Completed on the first missed day only, then several missed days
+                createTask(2, 8, TODAY.minusDays(20), TODAY.minusDays(6), TODAY.minusDays(5)),
+                // A run from before the window that the missed days break
+                createTask(1, 1, TODAY.minusDays(20), TODAY.minusDays(5),
+                        TODAY.minusDays(10), TODAY.minusDays(9)),
+                // No completions at all
+                createTask(4, 4, TODAY.minusDays(20), TODAY.minusDays(4)),
+                // Start date inside the window: earlier days are skipped
+                createTask(4, 4, TODAY.minusDays(2), TODAY.minusDays(10), TODAY.minusDays(1)));
+
+        RolloverReportDTO report = batchRolloverEngine.run(TODAY);
+
+        long expectedDays = 0;
+        for (Task before : tasks) {
+            Baseline expected = baseline(before);
+            Task after = taskRepository.findById(before.getId()).orElseThrow();
+            assertEquals(expected.accumulatedValue(), after.getAccumulatedValue(), "accumulatedValue of " + before.getTitle());
+            assertEquals(expected.currentStreak(), after.getCurrentStreak(), "currentStreak of " + before.getTitle());
+            assertEquals(TODAY, after.getLastProcessedDate(), "lastProcessedDate of " + before.getTitle());
+            expectedDays += expected.daysRolled();
+        }
+        assertEquals(tasks.size(), report.getTasksProcessed());
+        assertEquals(expectedDays, report.getDaysRolled());
+    }
+
+    @Test
+    void taskWrittenDuringAPassIsRecomputedFromItsNewState() {
+        Task task = createTask(2, 2, TODAY.minusDays(10), TODAY.minusDays(3));
+        Task other = createTask(1, 1, TODAY.minusDays(10), TODAY.minusDays(3));
+
+        // Between the read and the version-guarded write, another transaction edits the task
+        AtomicBoolean written = new AtomicBoolean();
+        doAnswer(invocation -> {
+            Task computed = invocation.getArgument(0);
+            if (computed.getId().equals(task.getId()) && written.compareAndSet(false, true)) {
+                CompletableFuture.runAsync(() -> jdbcTemplate.update(
+                        "UPDATE tasks SET accumulated_value = 100, version = version + 1 WHERE id = ?",
+                        task.getId())).join();
+            }
+            return invocation.callRealMethod();
+        }).when(streakEngine).currentStreak(any(), any());
+
+        RolloverReportDTO report = batchRolloverEngine.run(TODAY);
+
+        Task after = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(100 + 3 * 2, after.getAccumulatedValue());
+        assertEquals(TODAY, after.getLastProcessedDate());
+        assertEquals(task.getVersion() + 2, after.getVersion());
+        assertEquals(1 + 3, taskRepository.findById(other.getId()).orElseThrow().getAccumulatedValue());
+        assertEquals(2, report.getTasksProcessed());
+        assertEquals(6, report.getDaysRolled());
+    }
+
+    @Test
+    void futureStartDateRollsNoDays() {
+        Task task = createTask(4, 4, TODAY.plusDays(3), TODAY.minusDays(2));
+
+        RolloverReportDTO report = batchRolloverEngine.run(TODAY);
+
+        Task after = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(4, after.getAccumulatedValue());
+        assertEquals(0, after.getCurrentStreak());
+        assertEquals(TODAY, after.getLastProcessedDate());
+        assertEquals(1, report.getTasksProcessed());
+        assertEquals(0, report.getDaysRolled());
+
+        // Already processed through today: a second run leaves it alone
+        assertEquals(0, batchRolloverEngine.run(TODAY).getTasksProcessed());
+    }
+
+    // Helper methods
+
+    /**
+     * Save an active task ending in 30 days, processed through lastProcessedDate and
+     * completed on the given days (each as if completed on that day).
+     */
+    private Task createTask(int dailyTarget, int accumulatedValue, LocalDate startDate,
+                            LocalDate lastProcessedDate, LocalDate... completions) {
+        Task task = new Task("Task " + taskRepository.count(), null, dailyTarget, Priority.MEDIUM,
+                startDate, TODAY.plusDays(30));
+        task.setAccumulatedValue(accumulatedValue);
+        task.setLastProcessedDate(lastProcessedDate);
+        for (LocalDate date : completions) {
+            task.recordCompletion(date);
+            streakEngine.onCompletion(task, date, date);
+        }
+        return taskRepository.save(task);
+    }
+
+    /**
+     * The per-day rollover the engine replaced: every day after lastProcessedDate, from the
+     * start date on, resets the value when completed and adds the target otherwise. The
+     * current streak is the run of completed days ending today, or yesterday if today is open.
+     */
+    private static Baseline baseline(Task task) {
+        int accumulated = task.getAccumulatedValue();
+        long days = 0;
+        for (LocalDate day = task.getLastProcessedDate().plusDays(1); !day.isAfter(TODAY); day = day.plusDays(1)) {
+            if (day.isBefore(task.getStartDate())) {
+                continue;
+            }
+            accumulated = task.isCompletedOn(day)
+                    ? task.getDailyTargetValue()
+                    : accumulated + task.getDailyTargetValue();
+            days++;
+        }
+
+        LocalDate runEnd = task.isCompletedOn(TODAY) ? TODAY : TODAY.minusDays(1);
+        int streak = 0;
+        for (LocalDate day = runEnd; !day.isBefore(task.getStartDate()) && task.isCompletedOn(day); day = day.minusDays(1)) {
+            streak++;
+        }
+        return new Baseline(accumulated, streak, days);
+    }
+
+    private record Baseline(int accumulatedValue, int currentStreak, long daysRolled) {
+    }
+}
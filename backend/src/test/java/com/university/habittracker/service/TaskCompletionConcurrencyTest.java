@@ -0,0 +1,146 @@
+package com.university.habittracker.service;
+
+import com.university.habittracker.dto.RolloverReportDTO;
+import com.university.habittracker.dto.TaskCompletionDTO;
+import com.university.habittracker.dto.TaskRequestDTO;
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.exception.TaskAlreadyCompletedException;
+import com.university.habittracker.rollover.RolloverMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress test for concurrent task writes: thousands of parallel completions, every
+ * (task, date) pair submitted twice, race with a daily rollover on the same tasks.
+ *
+ * No update may be lost: each pair is completed exactly once, and each task's bitmap,
+ * counters, history rows and version account for every committed completion and for
+ * the rollover's write.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:completionconcurrency",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "rollover.schedule.enabled=false"
+})
+class TaskCompletionConcurrencyTest {
+
+    private static final int TASKS = 100;
+    private static final int DAYS_PER_TASK = 10;
+    private static final int SUBMISSIONS_PER_PAIR = 2;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void parallelCompletionsAndRolloverLoseNoUpdates() throws Exception {
+        LocalDate today = LocalDate.now();
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            taskIds.add(taskService.createTask(new TaskRequestDTO("Task " + i, null, 1 + i % 5,
+                    Priority.MEDIUM, today.minusDays(60), today.plusDays(30))).getId());
+        }
+        // Every task is 30 days behind, so the rollover writes each one it still sees active
+        jdbcTemplate.update("UPDATE tasks SET last_processed_date = ?", Date.valueOf(today.minusDays(30)));
+
+        // Each (task, day before today) pair twice, in random order
+        List<TaskCompletionDTO> requests = new ArrayList<>();
+        for (Long taskId : taskIds) {
+            for (int day = 1; day <= DAYS_PER_TASK; day++) {
+                for (int copy = 0; copy < SUBMISSIONS_PER_PAIR; copy++) {
+                    requests.add(new TaskCompletionDTO(taskId, today.minusDays(day)));
+                }
+            }
+        }
+        Collections.shuffle(requests, new Random(42));
+
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        Future<RolloverReportDTO> rollover;
+        try {
+            // Submitted first so it runs while the completions are in flight
+            rollover = pool.submit(() -> {
+                awaitQuietly(start);
+                return taskService.processDailyRollover(RolloverMode.BATCH);
+            });
+            for (TaskCompletionDTO request : requests) {
+                pool.execute(() -> {
+                    awaitQuietly(start);
+                    try {
+                        taskService.completeTask(request);
+                        completed.incrementAndGet();
+                    } catch (TaskAlreadyCompletedException ex) {
+                        duplicates.incrementAndGet();
+                    } catch (Throwable ex) {
+                        failures.add(ex);
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(pool.awaitTermination(2, TimeUnit.MINUTES), "Completions did not finish");
+        RolloverReportDTO report = rollover.get();
+
+        assertTrue(failures.isEmpty(), () -> "Unexpected failures: " + failures);
+        assertEquals(TASKS * DAYS_PER_TASK, completed.get());
+        assertEquals(TASKS * DAYS_PER_TASK * (SUBMISSIONS_PER_PAIR - 1), duplicates.get());
+
+        int rolledForward = 0;
+        for (Map<String, Object> row : jdbcTemplate.queryForList(
+                "SELECT t.id, t.total_completions, t.completion_bitmap, t.last_processed_date, t.version, " +
+                "(SELECT COUNT(*) FROM completion_history h WHERE h.task_id = t.id) AS history " +
+                "FROM tasks t")) {
+            Object id = row.get("ID");
+            int bits = BitSet.valueOf((byte[]) row.get("COMPLETION_BITMAP")).cardinality();
+            assertEquals(DAYS_PER_TASK, bits, "completion bits of task " + id);
+            assertEquals(DAYS_PER_TASK, ((Number) row.get("TOTAL_COMPLETIONS")).intValue(), "counter of task " + id);
+            assertEquals(DAYS_PER_TASK, ((Number) row.get("HISTORY")).intValue(), "history rows of task " + id);
+
+            // No completion is for today: only the rollover moves last_processed_date to today
+            boolean rolled = ((Date) row.get("LAST_PROCESSED_DATE")).toLocalDate().equals(today);
+            rolledForward += rolled ? 1 : 0;
+            // One version per committed write: every completion, plus the rollover if it got the task
+            assertEquals(DAYS_PER_TASK + (rolled ? 1 : 0), ((Number) row.get("VERSION")).intValue(),
+                    "version of task " + id);
+        }
+        assertEquals(report.getTasksProcessed(), rolledForward);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
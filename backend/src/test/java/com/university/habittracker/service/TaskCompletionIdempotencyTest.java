@@ -0,0 +1,89 @@
+package com.university.habittracker.service;
+
+import com.university.habittracker.dto.TaskCompletionDTO;
+import com.university.habittracker.dto.TaskRequestDTO;
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.exception.IdempotencyKeyReusedException;
+import com.university.habittracker.exception.TaskAlreadyCompletedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Insert-first completions: a retried request with the same Idempotency-Key succeeds
+ * without writing again, a key reused for another completion is rejected, and a
+ * keyless duplicate is still reported as already completed.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:completionidempotency",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "rollover.schedule.enabled=false"
+})
+class TaskCompletionIdempotencyTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+    private Long taskId;
+
+    @BeforeEach
+    void createTask() {
+        taskId = taskService.createTask(new TaskRequestDTO("Read", null, 3, Priority.MEDIUM,
+                today.minusDays(10), today.plusDays(10))).getId();
+    }
+
+    @Test
+    void retryWithSameKeySucceedsWithoutCompletingTwice() {
+        TaskCompletionDTO completion = new TaskCompletionDTO(taskId, today.minusDays(1));
+
+        taskService.completeTask(completion, "retry-key");
+        taskService.completeTask(completion, "retry-key");
+
+        assertEquals(1, historyRows());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT total_completions FROM tasks WHERE id = ?", Integer.class, taskId));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT version FROM tasks WHERE id = ?", Integer.class, taskId));
+    }
+
+    @Test
+    void keyReusedForAnotherCompletionIsRejected() {
+        taskService.completeTask(new TaskCompletionDTO(taskId, today.minusDays(1)), "reused-key");
+
+        assertThrows(IdempotencyKeyReusedException.class, () ->
+                taskService.completeTask(new TaskCompletionDTO(taskId, today.minusDays(2)), "reused-key"));
+        assertEquals(1, historyRows());
+    }
+
+    @Test
+    void duplicateWithoutKeyOrWithNewKeyIsAlreadyCompleted() {
+        TaskCompletionDTO completion = new TaskCompletionDTO(taskId, today.minusDays(1));
+        taskService.completeTask(completion);
+
+        assertThrows(TaskAlreadyCompletedException.class, () -> taskService.completeTask(completion));
+        assertThrows(TaskAlreadyCompletedException.class, () -> taskService.completeTask(completion, "new-key"));
+
+        // The failed attempt rolled back its key, so a corrected retry can still use it
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM completion_requests WHERE task_id = ?", Integer.class, taskId));
+        assertEquals(1, historyRows());
+    }
+
+    private int historyRows() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM completion_history WHERE task_id = ?", Integer.class, taskId);
+    }
+}
@@ -0,0 +1,265 @@
+package com.university.habittracker.service;
+
+import com.university.habittracker.dto.CompletionStatisticsDTO;
+import com.university.habittracker.dto.ImportErrorDTO;
+import com.university.habittracker.dto.ImportReportDTO;
+import com.university.habittracker.dto.StatisticsRequestDTO;
+import com.university.habittracker.dto.TaskCompletionDTO;
+import com.university.habittracker.dto.TaskRequestDTO;
+import com.university.habittracker.dto.TaskResponseDTO;
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.transfer.TransferFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bulk import: CSV rows are reported by the line they start on, and imported tasks end
+ * in the state the same tasks reach when they are created, completed and rolled over
+ * through the API day by day, also after an export and re-import.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:taskimport",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "rollover.schedule.enabled=false"
+})
+class TaskImportTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 20);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private SettableClock clock;
+
+    @BeforeEach
+    void resetClock() {
+        clock.setDate(TODAY);
+    }
+
+    @Test
+    void csvErrorsReportTheLineTheRowStartsOn() {
+        LocalDate start = TODAY.minusDays(5);
+        LocalDate end = TODAY.plusDays(5);
+        String csv = String.join("\n",
+                "type,ref,title,description,dailyTargetValue,priority,startDate,endDate,completionDate",
+                "task,q1,\"Csv, \"\"quoted\"\"\",,1,LOW," + start + "," + end + ",",
+                "task,q2,Csv multi-line,\"first",
+                "second\",2,MEDIUM," + start + "," + end + ",",
+                "completion,q2,,,,,,," + TODAY.minusDays(1),
+                "task,q3,Csv bad target,,x,LOW," + start + "," + end + ",",
+                "",
+                "completion,q2,,,,,,,yesterday",
+                "task,q4,\"Csv \"\"bad\"\"",
+                "priority\",,3,URGENT," + start + "," + end + ",",
+                "completion,q1,,,,,,," + TODAY.minusDays(2),
+                "completion,q9,,,,,,," + TODAY.minusDays(2),
+                "task,q5,\"Csv unterminated,1,LOW," + start + "," + end + ",",
+                "completion,q1,,,,,,," + TODAY.minusDays(3));
+
+        ImportReportDTO report = importTasks(csv, TransferFormat.CSV);
+
+        assertEquals(2, report.getTasksImported());
+        assertEquals(2, report.getCompletionsImported());
+        assertEquals(5, report.getRejected());
+        List<ImportErrorDTO> errors = report.getErrors();
+        assertEquals(List.of(6L, 8L, 9L, 12L, 13L), errors.stream().map(ImportErrorDTO::getLine).toList());
+        assertTrue(errors.get(0).getMessage().contains("dailyTargetValue: x"), errors.get(0).getMessage());
+        assertTrue(errors.get(1).getMessage().contains("yesterday"), errors.get(1).getMessage());
+        assertTrue(errors.get(2).getMessage().contains("priority: URGENT"), errors.get(2).getMessage());
+        assertTrue(errors.get(3).getMessage().contains("Unknown task ref: q9"), errors.get(3).getMessage());
+        assertTrue(errors.get(4).getMessage().contains("Unterminated"), errors.get(4).getMessage());
+
+        TaskResponseDTO quoted = taskTitled("Csv, \"quoted\"").get(0);
+        assertEquals(Priority.LOW, quoted.getPriority());
+        assertEquals("first\nsecond", taskTitled("Csv multi-line").get(0).getDescription());
+    }
+
+    @Test
+    void ndjsonImportMatchesTasksCompletedAndRolledOverThroughTheApi() {
+        List<Habit> habits = habits("Api ");
+        liveThroughApi(habits);
+
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < habits.size(); i++) {
+            Habit habit = habits.get(i);
+            ndjson.append(String.format("{\"type\":\"task\",\"ref\":\"h%d\",\"title\":\"Imported %s\"," +
+                            "\"dailyTargetValue\":%d,\"priority\":\"MEDIUM\",\"startDate\":\"%s\",\"endDate\":\"%s\"}%n",
+                    i, habit.title(), habit.dailyTarget(), habit.start(), habit.end()));
+            for (LocalDate date : habit.completions()) {
+                ndjson.append(String.format("{\"type\":\"completion\",\"ref\":\"h%d\",\"completionDate\":\"%s\"}%n",
+                        i, date));
+            }
+        }
+        ImportReportDTO report = importTasks(ndjson.toString(), TransferFormat.NDJSON);
+        assertEquals(0, report.getRejected(), () -> report.getErrors().toString());
+        assertEquals(habits.size(), report.getTasksImported());
+
+        for (Habit habit : habits) {
+            assertSameState(taskTitled(habit.title()).get(0), taskTitled("Imported " + habit.title()).get(0));
+        }
+    }
+
+    @Test
+    void exportedTasksReimportUnchanged() {
+        List<Habit> habits = habits("Round trip ");
+        liveThroughApi(habits);
+
+        ByteArrayOutputStream export = new ByteArrayOutputStream();
+        taskService.exportTasks(export);
+        ImportReportDTO report = importTasks(export.toString(StandardCharsets.UTF_8), TransferFormat.NDJSON);
+        assertEquals(0, report.getRejected(), () -> report.getErrors().toString());
+
+        for (Habit habit : habits) {
+            List<TaskResponseDTO> copies = taskTitled(habit.title());
+            assertEquals(2, copies.size(), habit.title());
+            assertSameState(copies.get(0), copies.get(1));
+        }
+    }
+
+    // Helper methods
+
+    /**
+     * Habits covering a catch-up without completions, completions ending a run early,
+     * a streak alive today, tasks that ended, and tasks starting today or later.
+     */
+    private static List<Habit> habits(String prefix) {
+        LocalDate t = TODAY;
+        return List.of(
+                new Habit(prefix + "catch-up", 2, t.minusDays(10), t.plusDays(10), List.of()),
+                new Habit(prefix + "completed", 2, t.minusDays(10), t.plusDays(10),
+                        List.of(t.minusDays(7), t.minusDays(6), t.minusDays(3))),
+                new Habit(prefix + "live streak", 3, t.minusDays(15), t.plusDays(15),
+                        List.of(t.minusDays(2), t.minusDays(1), t)),
+                new Habit(prefix + "ended", 1, t.minusDays(20), t.minusDays(5), List.of()),
+                new Habit(prefix + "ended completed", 1, t.minusDays(20), t.minusDays(5),
+                        List.of(t.minusDays(19), t.minusDays(6))),
+                new Habit(prefix + "starts today", 1, t, t.plusDays(5), List.of()),
+                new Habit(prefix + "future", 4, t.plusDays(3), t.plusDays(20), List.of()));
+    }
+
+    /**
+     * Day by day up to today: create the tasks starting that day (later ones today), run
+     * the daily rollover, then record that day's completions.
+     */
+    private void liveThroughApi(List<Habit> habits) {
+        Map<Habit, Long> ids = new HashMap<>();
+        LocalDate first = habits.stream().map(Habit::start).min(Comparator.naturalOrder()).orElseThrow();
+        for (LocalDate day = first; !day.isAfter(TODAY); day = day.plusDays(1)) {
+            clock.setDate(day);
+            for (Habit habit : habits) {
+                if (habit.start().equals(day) || (day.equals(TODAY) && habit.start().isAfter(TODAY))) {
+                    ids.put(habit, taskService.createTask(new TaskRequestDTO(habit.title(), null,
+                            habit.dailyTarget(), Priority.MEDIUM, habit.start(), habit.end())).getId());
+                }
+            }
+            taskService.processDailyRollover();
+            for (Habit habit : habits) {
+                if (habit.completions().contains(day)) {
+                    taskService.completeTask(new TaskCompletionDTO(ids.get(habit), day));
+                }
+            }
+        }
+    }
+
+    private ImportReportDTO importTasks(String body, TransferFormat format) {
+        return taskService.importTasks(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format);
+    }
+
+    /**
+     * Tasks with the given title, oldest first.
+     */
+    private List<TaskResponseDTO> taskTitled(String title) {
+        return taskService.getAllTasks().stream()
+                .filter(task -> task.getTitle().equals(title))
+                .sorted(Comparator.comparing(TaskResponseDTO::getId))
+                .collect(Collectors.toList());
+    }
+
+    private void assertSameState(TaskResponseDTO expected, TaskResponseDTO actual) {
+        String title = expected.getTitle();
+        assertEquals(expected.getDailyTargetValue(), actual.getDailyTargetValue(), title);
+        assertEquals(expected.getStartDate(), actual.getStartDate(), title);
+        assertEquals(expected.getEndDate(), actual.getEndDate(), title);
+        assertEquals(expected.getAccumulatedValue(), actual.getAccumulatedValue(), title);
+        assertEquals(expected.getLastProcessedDate(), actual.getLastProcessedDate(), title);
+        assertEquals(expected.isActive(), actual.isActive(), title);
+
+        StatisticsRequestDTO request = new StatisticsRequestDTO(true, null, null, null, 366);
+        CompletionStatisticsDTO expectedStatistics = taskService.getCompletionStatistics(expected.getId(), request);
+        CompletionStatisticsDTO actualStatistics = taskService.getCompletionStatistics(actual.getId(), request);
+        assertEquals(expectedStatistics.getCompletedDates(), actualStatistics.getCompletedDates(), title);
+        assertEquals(expectedStatistics.getTotalCompletions(), actualStatistics.getTotalCompletions(), title);
+        assertEquals(expectedStatistics.getCurrentStreak(), actualStatistics.getCurrentStreak(), title);
+        assertEquals(expectedStatistics.getLongestStreak(), actualStatistics.getLongestStreak(), title);
+        assertEquals(expectedStatistics.getStreakEndDate(), actualStatistics.getStreakEndDate(), title);
+    }
+
+    /**
+     * A task to create and the days it is completed on.
+     */
+    private record Habit(String title, int dailyTarget, LocalDate start, LocalDate end,
+                         List<LocalDate> completions) {
+    }
+
+    /**
+     * Application clock whose date the test sets; it stands still at midnight UTC.
+     */
+    static class SettableClock extends Clock {
+
+        private volatile Instant instant = Instant.EPOCH;
+
+        void setDate(LocalDate date) {
+            instant = date.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return Clock.fixed(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @TestConfiguration
+    static class ClockConfig {
+
+        @Bean
+        @Primary
+        SettableClock settableClock() {
+            return new SettableClock();
+        }
+    }
+}
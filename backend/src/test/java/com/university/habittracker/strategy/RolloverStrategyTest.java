@@ -0,0 +1,110 @@
+package com.university.habittracker.strategy;
+
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.entity.Task;
+import com.university.habittracker.strategy.impl.AccumulativeRolloverStrategy;
+import com.university.habittracker.strategy.impl.ResetRolloverStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Closed-form catch-up rollover: computeRollover must give the same accumulated value as
+ * calling applyCompletion/applyRollover once per day of the window.
+ */
+class RolloverStrategyTest {
+
+    private final RolloverStrategy accumulative = new AccumulativeRolloverStrategy();
+    private final RolloverStrategy reset = new ResetRolloverStrategy();
+    private final LocalDate from = LocalDate.of(2026, 3, 1);
+    private final LocalDate to = LocalDate.of(2026, 3, 10);
+    private Task task;
+
+    @BeforeEach
+    void createTask() {
+        task = new Task("Read", null, 3, Priority.MEDIUM, from.minusDays(5), to.plusDays(30));
+        task.setAccumulatedValue(7);
+    }
+
+    @Test
+    void windowWithoutCompletions() {
+        assertMatchesDayByDay(accumulative, dates());
+        assertEquals(7 + 10 * 3, accumulative.computeRollover(task, from, to, dates()));
+        assertMatchesDayByDay(reset, dates());
+    }
+
+    @Test
+    void completionOnFirstDay() {
+        assertMatchesDayByDay(accumulative, dates(0));
+        assertEquals(3 + 9 * 3, accumulative.computeRollover(task, from, to, dates(0)));
+        assertMatchesDayByDay(reset, dates(0));
+    }
+
+    @Test
+    void completionOnLastDay() {
+        assertMatchesDayByDay(accumulative, dates(9));
+        assertEquals(3, accumulative.computeRollover(task, from, to, dates(9)));
+        assertMatchesDayByDay(reset, dates(9));
+    }
+
+    @Test
+    void scatteredCompletionsAndCompletionsOutsideTheWindow() {
+        NavigableSet<LocalDate> completions = dates(2, 3, 6);
+        completions.add(from.minusDays(1));
+        completions.add(to.plusDays(1));
+
+        assertMatchesDayByDay(accumulative, completions);
+        assertMatchesDayByDay(reset, completions);
+    }
+
+    @Test
+    void emptyWindowLeavesValueUnchanged() {
+        assertEquals(7, accumulative.computeRollover(task, to, from, dates()));
+        assertEquals(7, reset.computeRollover(task, to, from, dates()));
+        assertEquals(7, accumulative.computeRollover(task, to.plusDays(1), to, dates(9)));
+    }
+
+    @Test
+    void accumulatedValueSaturatesAtIntegerMax() {
+        task.setAccumulatedValue(Integer.MAX_VALUE - 5);
+        assertMatchesDayByDay(accumulative, dates());
+        assertEquals(Integer.MAX_VALUE, accumulative.computeRollover(task, from, to, dates()));
+
+        // The window alone exceeds the int range once the product is taken
+        task.setDailyTargetValue(Integer.MAX_VALUE / 4);
+        task.setAccumulatedValue(0);
+        assertMatchesDayByDay(accumulative, dates(1));
+        assertEquals(Integer.MAX_VALUE, accumulative.computeRollover(task, from, to, dates(1)));
+    }
+
+    // Helper methods
+
+    private NavigableSet<LocalDate> dates(int... daysAfterFrom) {
+        NavigableSet<LocalDate> dates = new TreeSet<>();
+        for (int days : daysAfterFrom) {
+            dates.add(from.plusDays(days));
+        }
+        return dates;
+    }
+
+    private void assertMatchesDayByDay(RolloverStrategy strategy, NavigableSet<LocalDate> completions) {
+        int before = task.getAccumulatedValue();
+        int computed = strategy.computeRollover(task, from, to, completions);
+        assertEquals(before, task.getAccumulatedValue(), "computeRollover must not modify the task");
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (completions.contains(day)) {
+                strategy.applyCompletion(task);
+            } else {
+                strategy.applyRollover(task);
+            }
+        }
+        assertEquals(task.getAccumulatedValue(), computed, strategy.getStrategyName());
+        task.setAccumulatedValue(before);
+    }
+}
@@ -0,0 +1,104 @@
+package com.university.habittracker.streak;
+
+import com.university.habittracker.entity.Priority;
+import com.university.habittracker.entity.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Incremental streak maintenance: backfills merge neighbouring runs in any order,
+ * and the current streak breaks once a day after the most recent run has elapsed.
+ */
+class StreakEngineTest {
+
+    private final StreakEngine streakEngine = new StreakEngine();
+    private final LocalDate today = LocalDate.of(2026, 3, 20);
+    private Task task;
+
+    @BeforeEach
+    void createTask() {
+        task = new Task("Read", null, 1, Priority.MEDIUM, today.minusDays(30), today.plusDays(30));
+    }
+
+    @Test
+    void outOfOrderBackfillsMergeIntoOneRun() {
+        complete(5, 4, 2, 1);
+        assertEquals(2, task.getLongestStreak());
+        assertEquals(2, task.getCurrentStreak());
+        assertEquals(today.minusDays(1), task.getStreakEndDate());
+
+        // The gap between the two runs is filled last
+        complete(3);
+        assertEquals(5, task.getLongestStreak());
+        assertEquals(5, task.getCurrentStreak());
+        assertEquals(today.minusDays(1), task.getStreakEndDate());
+
+        // An older isolated completion does not touch the current run
+        complete(10);
+        assertEquals(5, task.getLongestStreak());
+        assertEquals(5, task.getCurrentStreak());
+        assertEquals(today.minusDays(1), task.getStreakEndDate());
+    }
+
+    @Test
+    void incrementalValuesMatchRecompute() {
+        complete(12, 3, 11, 1, 2, 13, 7, 0);
+        int longest = task.getLongestStreak();
+        int current = task.getCurrentStreak();
+        LocalDate streakEnd = task.getStreakEndDate();
+
+        streakEngine.recompute(task, today);
+        assertEquals(4, longest);
+        assertEquals(longest, task.getLongestStreak());
+        assertEquals(current, task.getCurrentStreak());
+        assertEquals(streakEnd, task.getStreakEndDate());
+    }
+
+    @Test
+    void backfillBehindADeadRunStaysBroken() {
+        complete(6, 4);
+        assertEquals(0, task.getCurrentStreak());
+
+        complete(5);
+        assertEquals(3, task.getLongestStreak());
+        assertEquals(0, task.getCurrentStreak());
+        assertEquals(today.minusDays(4), task.getStreakEndDate());
+    }
+
+    @Test
+    void currentStreakBreaksAfterAMissedDay() {
+        complete(3, 2, 1);
+
+        // Today is still open: completing it later keeps the run alive
+        assertEquals(3, streakEngine.currentStreak(task, today));
+
+        // Once today has fully elapsed without a completion, the streak is broken
+        assertEquals(0, streakEngine.currentStreak(task, today.plusDays(1)));
+        assertEquals(0, streakEngine.currentStreak(task, today.plusDays(21)));
+        assertEquals(3, task.getLongestStreak());
+    }
+
+    @Test
+    void recomputeWithoutCompletionsClearsStreaks() {
+        streakEngine.recompute(task, today);
+        assertEquals(0, task.getLongestStreak());
+        assertEquals(0, task.getCurrentStreak());
+        assertNull(task.getStreakEndDate());
+        assertEquals(0, streakEngine.currentStreak(task, today));
+    }
+
+    // Helper methods
+
+    private void complete(int... daysAgo) {
+        for (int days : daysAgo) {
+            LocalDate date = today.minusDays(days);
+            task.recordCompletion(date);
+            streakEngine.onCompletion(task, date, today);
+        }
+    }
+}
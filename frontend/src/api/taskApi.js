@@ -1,5 +1,25 @@
 import axiosInstance from './axiosConfig';
 
+const DAY_MILLIS = 24 * 60 * 60 * 1000;
+
+/**
+ * Decode a Base64 completion bitmap (bit i set = completed on bitmapStart + i days)
+ * into ISO dates, most recent first
+ */
+const decodeCompletionBitmap = (completionBitmap, bitmapStart) => {
+    if (!completionBitmap || !bitmapStart) return [];
+
+    const bytes = atob(completionBitmap);
+    const start = Date.parse(`${bitmapStart}T00:00:00Z`);
+    const dates = [];
+    for (let i = bytes.length * 8 - 1; i >= 0; i--) {
+        if (bytes.charCodeAt(i >> 3) & (1 << (i & 7))) {
+            dates.push(new Date(start + i * DAY_MILLIS).toISOString().slice(0, 10));
+        }
+    }
+    return dates;
+};
+
 /**
  * API service for task-related operations
  * Corresponds to TaskController endpoints in Spring Boot
@@ -70,12 +90,35 @@ const taskApi = {
         return response.data;
     },
 
-    // Get task statistics
-    getTaskStatistics: async (id) => {
-        const response = await axiosInstance.get(`/tasks/${id}/statistics`);
+    // Mark many tasks as completed at once: completions is an array of { taskId, completionDate }
+    completeTasksBatch: async (completions) => {
+        const response = await axiosInstance.post('/tasks/complete/batch', { completions });
         return response.data;
     },
 
+    // Import tasks and completion history from an NDJSON (.ndjson) or CSV (.csv) File
+    importTasks: async (file) => {
+        const contentType = file.name.endsWith('.csv') ? 'text/csv' : 'application/x-ndjson';
+        const response = await axiosInstance.post('/tasks/import', file, {
+            headers: { 'Content-Type': contentType }
+        });
+        return response.data;
+    },
+
+    // Export all tasks and completion history as an NDJSON Blob (re-importable with importTasks)
+    exportTasks: async () => {
+        const response = await axiosInstance.get('/export', { responseType: 'blob' });
+        return response.data;
+    },
+
+    // Get task statistics (including every completed date for the calendar).
+    // Dates come as one completion bitmap instead of a page of dates, so long histories are never cut off.
+    getTaskStatistics: async (id) => {
+        const response = await axiosInstance.get(`/tasks/${id}/statistics?includeDates=true&format=BITMAP`);
+        const { completionBitmap, bitmapStart, ...statistics } = response.data;
+        return { ...statistics, completedDates: decodeCompletionBitmap(completionBitmap, bitmapStart) };
+    },
+
     // Trigger daily rollover
     processDailyRollover: async () => {
         const response = await axiosInstance.post('/tasks/process-daily-rollover');
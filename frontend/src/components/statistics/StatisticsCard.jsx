@@ -36,7 +36,7 @@ const StatisticsCard = ({ statistics }) => {
                     <div className="stat-icon">🔥</div>
                     <div className="stat-content">
                         <div className="stat-value">
-                            {statistics.completedDates?.length || 0}
+                            {statistics.totalCompletions || 0}
                         </div>
                         <div className="stat-label">Days Completed</div>
                     </div>